@@ -0,0 +1,45 @@
+package org.example.comparison;
+
+/**
+ * The browser operations the page object journeys need, implemented once per automation library,
+ * so the same journey code runs on Playwright and Selenium. Selectors are CSS; timeouts are in milliseconds.
+ */
+public interface BrowserDriver extends AutoCloseable {
+
+    /**
+     * Navigate and wait for the load event
+     */
+    void navigate(String url);
+
+    void fill(String selector, String text);
+
+    void click(String selector);
+
+    /**
+     * Click the first element matching the selector once it is visible
+     */
+    void clickFirst(String selector, int timeout);
+
+    void waitForVisible(String selector, int timeout);
+
+    /**
+     * Wait until the URL differs from the given one and the new document is parsed
+     */
+    void waitForUrlChange(String previousUrl, int timeout);
+
+    /**
+     * Wait until the element's text contains the given text
+     * @return false if it did not appear within the timeout
+     */
+    boolean waitForText(String selector, String text, int timeout);
+
+    String getTitle();
+
+    String getCurrentUrl();
+
+    /**
+     * End the session (context or WebDriver)
+     */
+    @Override
+    void close();
+}
@@ -0,0 +1,197 @@
+package org.example.comparison;
+
+import com.google.gson.GsonBuilder;
+import org.example.fixtures.FixtureServer;
+import org.example.metrics.LatencyHistogram;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Runs the same Google and Amazon journeys ({@link Journeys}) on Playwright and Selenium against the
+ * local fixture pages and reports, per backend:
+ * <ul>
+ *   <li>startup: time until the first session can navigate (browser launch included)</li>
+ *   <li>step latency: p50/p95/p99/max of every journey step and of starting a session</li>
+ *   <li>throughput: journeys per second with N parallel sessions</li>
+ *   <li>memory: peak JVM usage and peak resident memory of the driver and browser processes</li>
+ * </ul>
+ *
+ * Usage Example:
+ * <pre>
+ * mvn -Pcomparison test-compile exec:exec -Dcomparison.args="4 5 playwright selenium"
+ * </pre>
+ * Arguments: parallel sessions (default 4), iterations per session (default 5), backends (default both).
+ * Results are printed and written to target/comparison/results.json. Playwright runs through the
+ * framework's BrowserPool with tracing, step metrics and request filtering off, so both backends
+ * load the same resources.
+ */
+public class ComparisonHarness {
+    private static final String QUERY = "motorola";
+    private static final long MEMORY_SAMPLE_MILLIS = 100;
+
+    public static void main(String[] args) throws Exception {
+        int sessions = args.length > 0 ? Integer.parseInt(args[0]) : 4;
+        int iterations = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+        List<String> backends = args.length > 2
+                ? Arrays.asList(Arrays.copyOfRange(args, 2, args.length))
+                : Arrays.asList("playwright", "selenium");
+
+        System.setProperty("browser.headless", "true");
+        System.setProperty("browser.pool.size", String.valueOf(sessions));
+        System.setProperty("trace.mode", "off");
+        System.setProperty("metrics.enabled", "false");
+        System.setProperty("network.filter.enabled", "false");
+
+        FixtureServer server = FixtureServer.fromConfig().start();
+        Map<String, Object> results = new LinkedHashMap<>();
+        try {
+            for (String backendName : backends) {
+                try (DriverBackend backend = createBackend(backendName)) {
+                    results.put(backend.getName(), measure(backend, server.getBaseUrl(), sessions, iterations));
+                }
+            }
+        } finally {
+            server.stop();
+        }
+
+        Path output = Paths.get("target", "comparison", "results.json");
+        Files.createDirectories(output.getParent());
+        Files.write(output, new GsonBuilder().setPrettyPrinting().create().toJson(results)
+                .getBytes(StandardCharsets.UTF_8));
+        System.out.println("Results written to " + output.toAbsolutePath());
+    }
+
+    private static DriverBackend createBackend(String name) {
+        switch (name.toLowerCase(Locale.ROOT)) {
+            case "playwright":
+                return new PlaywrightBackend();
+            case "selenium":
+                return new SeleniumBackend();
+            default:
+                throw new IllegalArgumentException("Unknown backend '" + name + "'. Use playwright or selenium.");
+        }
+    }
+
+    private static Map<String, Object> measure(DriverBackend backend, String baseUrl, int sessions, int iterations)
+            throws Exception {
+        System.out.println("=== " + backend.getName() + ": " + sessions + " sessions x " + iterations + " iterations");
+
+        // Startup: launching the browser and getting a usable session
+        long startupMillis;
+        long start = System.nanoTime();
+        try (BrowserDriver driver = backend.newSession()) {
+            driver.navigate("about:blank");
+            startupMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            System.out.println("Startup: " + startupMillis + " ms");
+
+            // Warm-up, not measured
+            Journeys warmUp = new Journeys(baseUrl);
+            warmUp.googleTitle(driver);
+            warmUp.addToCart(driver, QUERY);
+        }
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("startupMs", startupMillis);
+        result.putAll(runParallel(backend, baseUrl, sessions, iterations));
+        return result;
+    }
+
+    private static Map<String, Object> runParallel(DriverBackend backend, String baseUrl, int sessions, int iterations)
+            throws Exception {
+        Journeys journeys = new Journeys(baseUrl);
+        LatencyHistogram sessionStart = new LatencyHistogram();
+        AtomicLong peakJvm = new AtomicLong();
+        AtomicLong peakBrowsers = new AtomicLong();
+
+        ExecutorService workers = Executors.newFixedThreadPool(sessions);
+        ExecutorService sampler = Executors.newSingleThreadExecutor();
+        Future<?> sampling = sampler.submit(() -> {
+            while (!Thread.currentThread().isInterrupted()) {
+                peakJvm.accumulateAndGet(ProcessMemory.jvmUsedBytes(), Math::max);
+                peakBrowsers.accumulateAndGet(ProcessMemory.childProcessesRssBytes(), Math::max);
+                try {
+                    Thread.sleep(MEMORY_SAMPLE_MILLIS);
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+        });
+
+        long start = System.nanoTime();
+        long wallMillis;
+        try {
+            List<Future<?>> runs = new ArrayList<>();
+            for (int session = 0; session < sessions; session++) {
+                runs.add(workers.submit(() -> {
+                    long sessionStartNanos = System.nanoTime();
+                    try (BrowserDriver driver = backend.newSession()) {
+                        sessionStart.record(System.nanoTime() - sessionStartNanos);
+                        for (int iteration = 0; iteration < iterations; iteration++) {
+                            journeys.googleTitle(driver);
+                            journeys.addToCart(driver, QUERY);
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> run : runs) {
+                run.get();
+            }
+            wallMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        } finally {
+            // Also after a failed journey, so the non-daemon pool threads do not keep the JVM alive
+            sampling.cancel(true);
+            sampler.shutdownNow();
+            workers.shutdownNow();
+        }
+
+        int journeyCount = sessions * iterations * 2;
+        double journeysPerSecond = journeyCount * 1000.0 / Math.max(1, wallMillis);
+        System.out.printf("Throughput: %d journeys in %d ms = %.2f journeys/s%n", journeyCount, wallMillis, journeysPerSecond);
+        System.out.printf("Peak memory: JVM %d MB, driver and browser processes %d MB%n",
+                peakJvm.get() / (1024 * 1024), peakBrowsers.get() / (1024 * 1024));
+
+        Map<String, LatencyHistogram> steps = new TreeMap<>(journeys.getSteps());
+        steps.put("session.start", sessionStart);
+        Map<String, Object> stepResults = new LinkedHashMap<>();
+        System.out.printf("%-32s %6s %10s %10s %10s %10s%n", "Step", "Count", "p50 (ms)", "p95 (ms)", "p99 (ms)", "Max (ms)");
+        for (Map.Entry<String, LatencyHistogram> step : steps.entrySet()) {
+            LatencyHistogram histogram = step.getValue();
+            Map<String, Object> stats = new LinkedHashMap<>();
+            stats.put("count", histogram.getCount());
+            stats.put("p50Ms", histogram.getPercentileMicros(50) / 1000.0);
+            stats.put("p95Ms", histogram.getPercentileMicros(95) / 1000.0);
+            stats.put("p99Ms", histogram.getPercentileMicros(99) / 1000.0);
+            stats.put("maxMs", histogram.getMaxMicros() / 1000.0);
+            stepResults.put(step.getKey(), stats);
+            System.out.printf("%-32s %6d %10.1f %10.1f %10.1f %10.1f%n", step.getKey(), histogram.getCount(),
+                    stats.get("p50Ms"), stats.get("p95Ms"), stats.get("p99Ms"), stats.get("maxMs"));
+        }
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("sessions", sessions);
+        result.put("iterations", iterations);
+        result.put("wallMs", wallMillis);
+        result.put("journeysPerSecond", journeysPerSecond);
+        result.put("peakJvmBytes", peakJvm.get());
+        result.put("peakBrowserProcessesRssBytes", peakBrowsers.get());
+        result.put("steps", stepResults);
+        return result;
+    }
+}
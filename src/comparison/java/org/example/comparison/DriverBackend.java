@@ -0,0 +1,20 @@
+package org.example.comparison;
+
+/**
+ * An automation library under comparison: hands out independent browser sessions
+ */
+public interface DriverBackend extends AutoCloseable {
+
+    String getName();
+
+    /**
+     * Start a new isolated session; safe to call from several threads
+     */
+    BrowserDriver newSession();
+
+    /**
+     * Stop all browser processes started by this backend
+     */
+    @Override
+    void close();
+}
@@ -0,0 +1,87 @@
+package org.example.comparison;
+
+import org.example.metrics.LatencyHistogram;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * The GooglePage and Amazon*Page journeys of PlayWrightTest, written against {@link BrowserDriver}
+ * with the same selectors and waits as the page objects. Every step's latency is recorded per name.
+ */
+public class Journeys {
+    private static final int TIMEOUT = 10000;
+
+    private final String baseUrl;
+    private final Map<String, LatencyHistogram> steps = new ConcurrentHashMap<>();
+
+    /**
+     * @param baseUrl Base URL of the fixture server, e.g. http://127.0.0.1:54321
+     */
+    public Journeys(String baseUrl) {
+        this.baseUrl = baseUrl;
+    }
+
+    /**
+     * GooglePage: open the home page and check the title
+     */
+    public void googleTitle(BrowserDriver driver) {
+        step("google.navigate", () -> driver.navigate(baseUrl + "/google/index.html"));
+        String title = step("google.title", driver::getTitle);
+        if (!"Google".equals(title)) {
+            throw new IllegalStateException("Unexpected Google title: " + title);
+        }
+    }
+
+    /**
+     * AmazonHomePage, AmazonSearchResultsPage and AmazonProductPage: search, open the first result, add to cart
+     */
+    public void addToCart(BrowserDriver driver, String query) {
+        step("amazon.navigate", () -> driver.navigate(baseUrl + "/amazon/index.html"));
+        step("amazon.search", () -> {
+            driver.waitForVisible("#twotabsearchtextbox", TIMEOUT);
+            driver.fill("#twotabsearchtextbox", query);
+            String homeUrl = driver.getCurrentUrl();
+            driver.click("#nav-search-submit-button");
+            driver.waitForUrlChange(homeUrl, TIMEOUT);
+        });
+        step("amazon.clickFirstSearchResult", () -> {
+            String resultsUrl = driver.getCurrentUrl();
+            driver.clickFirst("[data-component-type='s-search-result']", TIMEOUT);
+            driver.waitForUrlChange(resultsUrl, TIMEOUT);
+        });
+        step("amazon.addToCart", () -> {
+            driver.waitForVisible("#add-to-cart-button", TIMEOUT);
+            driver.click("#add-to-cart-button");
+        });
+        boolean added = step("amazon.verifyItemAddedToCart",
+                () -> driver.waitForText("#attach-confirmation", "Added to Cart", TIMEOUT));
+        if (!added) {
+            throw new IllegalStateException("Cart confirmation did not appear");
+        }
+    }
+
+    /**
+     * Latency per step name, collected from all sessions
+     */
+    public Map<String, LatencyHistogram> getSteps() {
+        return steps;
+    }
+
+    private void step(String name, Runnable action) {
+        step(name, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    private <T> T step(String name, Supplier<T> action) {
+        long start = System.nanoTime();
+        try {
+            return action.get();
+        } finally {
+            steps.computeIfAbsent(name, key -> new LatencyHistogram()).record(System.nanoTime() - start);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package org.example.comparison;
+
+import com.microsoft.playwright.Locator;
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.TimeoutError;
+import com.microsoft.playwright.options.WaitForSelectorState;
+import com.microsoft.playwright.options.WaitUntilState;
+import org.example.browser.BrowserPool;
+import org.example.browser.BrowserSession;
+
+/**
+ * Playwright through the framework's own {@link BrowserPool}: warm browsers, one context per session
+ */
+public class PlaywrightBackend implements DriverBackend {
+
+    @Override
+    public String getName() {
+        return "playwright";
+    }
+
+    @Override
+    public BrowserDriver newSession() {
+        return new PlaywrightDriver(BrowserPool.getInstance().acquire());
+    }
+
+    @Override
+    public void close() {
+        BrowserPool.shutdownInstance();
+    }
+
+    private static class PlaywrightDriver implements BrowserDriver {
+        private final BrowserSession session;
+        private final Page page;
+
+        PlaywrightDriver(BrowserSession session) {
+            this.session = session;
+            this.page = session.getPage();
+        }
+
+        @Override
+        public void navigate(String url) {
+            page.navigate(url);
+        }
+
+        @Override
+        public void fill(String selector, String text) {
+            page.locator(selector).fill(text);
+        }
+
+        @Override
+        public void click(String selector) {
+            page.locator(selector).click();
+        }
+
+        @Override
+        public void clickFirst(String selector, int timeout) {
+            Locator first = page.locator(selector).first();
+            first.waitFor(new Locator.WaitForOptions().setState(WaitForSelectorState.VISIBLE).setTimeout(timeout));
+            first.click();
+        }
+
+        @Override
+        public void waitForVisible(String selector, int timeout) {
+            page.locator(selector).first().waitFor(new Locator.WaitForOptions()
+                    .setState(WaitForSelectorState.VISIBLE).setTimeout(timeout));
+        }
+
+        @Override
+        public void waitForUrlChange(String previousUrl, int timeout) {
+            page.waitForURL(url -> !url.equals(previousUrl), new Page.WaitForURLOptions()
+                    .setTimeout(timeout).setWaitUntil(WaitUntilState.DOMCONTENTLOADED));
+        }
+
+        @Override
+        public boolean waitForText(String selector, String text, int timeout) {
+            try {
+                page.locator(selector).filter(new Locator.FilterOptions().setHasText(text)).first()
+                        .waitFor(new Locator.WaitForOptions().setState(WaitForSelectorState.VISIBLE).setTimeout(timeout));
+                return true;
+            } catch (TimeoutError e) {
+                return false;
+            }
+        }
+
+        @Override
+        public String getTitle() {
+            return page.title();
+        }
+
+        @Override
+        public String getCurrentUrl() {
+            return page.url();
+        }
+
+        @Override
+        public void close() {
+            session.close();
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package org.example.comparison;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+/**
+ * Memory of this JVM and of the processes it started (Playwright driver, chromedriver, browsers)
+ */
+final class ProcessMemory {
+
+    private ProcessMemory() {
+    }
+
+    /**
+     * Used heap plus non-heap memory of this JVM, in bytes
+     */
+    static long jvmUsedBytes() {
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed()
+                + ManagementFactory.getMemoryMXBean().getNonHeapMemoryUsage().getUsed();
+    }
+
+    /**
+     * Resident set size of all descendant processes in bytes, read from /proc; -1 where that is not available
+     */
+    static long childProcessesRssBytes() {
+        if (!Files.isDirectory(Paths.get("/proc/self"))) {
+            return -1;
+        }
+        return ProcessHandle.current().descendants()
+                .mapToLong(process -> rssBytes(process.pid()))
+                .sum();
+    }
+
+    private static long rssBytes(long pid) {
+        Path status = Paths.get("/proc", String.valueOf(pid), "status");
+        try {
+            List<String> lines = Files.readAllLines(status);
+            for (String line : lines) {
+                if (line.startsWith("VmRSS:")) {
+                    // "VmRSS:    123456 kB"
+                    return Long.parseLong(line.replaceAll("[^0-9]", "")) * 1024;
+                }
+            }
+        } catch (IOException | NumberFormatException e) {
+            // Process ended in the meantime
+        }
+        return 0;
+    }
+}
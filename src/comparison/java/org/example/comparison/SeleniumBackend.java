@@ -0,0 +1,122 @@
+package org.example.comparison;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Selenium WebDriver with headless Chrome; every session is its own chromedriver and browser process,
+ * which is how Selenium suites isolate tests. The driver binary is resolved by Selenium Manager.
+ */
+public class SeleniumBackend implements DriverBackend {
+    private final Set<WebDriver> openDrivers = ConcurrentHashMap.newKeySet();
+
+    @Override
+    public String getName() {
+        return "selenium";
+    }
+
+    @Override
+    public BrowserDriver newSession() {
+        ChromeOptions options = new ChromeOptions();
+        options.addArguments("--headless=new", "--no-sandbox", "--disable-dev-shm-usage");
+        WebDriver driver = new ChromeDriver(options);
+        openDrivers.add(driver);
+        return new SeleniumDriver(driver);
+    }
+
+    @Override
+    public void close() {
+        for (WebDriver driver : openDrivers) {
+            try {
+                driver.quit();
+            } catch (RuntimeException e) {
+                // Already gone
+            }
+        }
+        openDrivers.clear();
+    }
+
+    private class SeleniumDriver implements BrowserDriver {
+        private final WebDriver driver;
+
+        SeleniumDriver(WebDriver driver) {
+            this.driver = driver;
+        }
+
+        @Override
+        public void navigate(String url) {
+            driver.get(url);
+        }
+
+        @Override
+        public void fill(String selector, String text) {
+            WebElement element = driver.findElement(By.cssSelector(selector));
+            element.clear();
+            element.sendKeys(text);
+        }
+
+        @Override
+        public void click(String selector) {
+            driver.findElement(By.cssSelector(selector)).click();
+        }
+
+        @Override
+        public void clickFirst(String selector, int timeout) {
+            wait(timeout).until(ExpectedConditions.visibilityOfElementLocated(By.cssSelector(selector))).click();
+        }
+
+        @Override
+        public void waitForVisible(String selector, int timeout) {
+            wait(timeout).until(ExpectedConditions.visibilityOfElementLocated(By.cssSelector(selector)));
+        }
+
+        @Override
+        public void waitForUrlChange(String previousUrl, int timeout) {
+            wait(timeout).until(webDriver -> !previousUrl.equals(webDriver.getCurrentUrl()));
+            // Same point as Playwright's DOMCONTENTLOADED: the new document is parsed
+            wait(timeout).until(webDriver -> !"loading".equals(
+                    ((JavascriptExecutor) webDriver).executeScript("return document.readyState")));
+        }
+
+        @Override
+        public boolean waitForText(String selector, String text, int timeout) {
+            try {
+                wait(timeout).until(ExpectedConditions.textToBePresentInElementLocated(By.cssSelector(selector), text));
+                return true;
+            } catch (TimeoutException e) {
+                return false;
+            }
+        }
+
+        @Override
+        public String getTitle() {
+            return driver.getTitle();
+        }
+
+        @Override
+        public String getCurrentUrl() {
+            return driver.getCurrentUrl();
+        }
+
+        @Override
+        public void close() {
+            openDrivers.remove(driver);
+            driver.quit();
+        }
+
+        private WebDriverWait wait(int timeout) {
+            return new WebDriverWait(driver, Duration.ofMillis(timeout));
+        }
+    }
+}
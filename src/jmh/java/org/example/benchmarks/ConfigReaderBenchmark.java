@@ -0,0 +1,85 @@
+package org.example.benchmarks;
+
+import org.example.utils.ConfigReaderUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lookups of ConfigReaderUtils as page objects do them inside waits, next to the way it worked
+ * before the config snapshot (Properties lookup and Integer.parseInt on every call).
+ *
+ * Usage Example:
+ * <pre>
+ * mvn -Pjmh test-compile exec:exec -Djmh.args="ConfigReaderBenchmark"
+ * </pre>
+ * Runs with 4 threads, like a parallel suite polling timeouts from several workers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@Fork(1)
+public class ConfigReaderBenchmark {
+
+    private ConfigReaderUtils config;
+    private Properties legacyProperties;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        config = ConfigReaderUtils.getInstance();
+        legacyProperties = new Properties();
+        try (InputStream inputStream = getClass().getClassLoader().getResourceAsStream("config.properties")) {
+            legacyProperties.load(inputStream);
+        }
+        System.setProperty("benchmark.override", "2500");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        System.clearProperty("benchmark.override");
+    }
+
+    @Benchmark
+    public int typedTimeout() {
+        return config.getVisibleWaitTimeout();
+    }
+
+    @Benchmark
+    public int intProperty() {
+        return config.getIntProperty("browser.pool.max.uses", 50);
+    }
+
+    @Benchmark
+    public int intPropertyOverridden() {
+        return config.getIntProperty("benchmark.override", 0);
+    }
+
+    @Benchmark
+    public String stringProperty() {
+        return config.getProperty("amazon.url");
+    }
+
+    @Benchmark
+    public int legacyIntProperty() {
+        String value = System.getProperty("wait.timeout.visible", legacyProperties.getProperty("wait.timeout.visible"));
+        return value != null ? Integer.parseInt(value) : 10000;
+    }
+}
@@ -0,0 +1,221 @@
+package org.example.benchmarks;
+
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.example.utils.ExcelReaderUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Row access of ExcelReaderUtils against the previous implementation ({@link LegacyExcelReader})
+ * on a generated sheet with repeated values and a formula column.
+ *
+ * Usage Example:
+ * <pre>
+ * mvn -Pjmh test-compile exec:exec -Djmh.args="ExcelReaderBenchmark -prof gc"
+ * </pre>
+ * The in-memory benchmarks read from an already opened workbook, so only the row access is measured;
+ * streamAllRows includes opening and parsing the file. openWorkbook measures opening a reader and
+ * selecting the sheet with a POI parse, openCached the same from a warm on-disk sheet cache. The sheet
+ * cache is disabled for all other benchmarks and lives in a temporary directory removed after the trial.
+ * The legacy reader grows quadratically with the number of formula rows (every new evaluator builds its
+ * own cell cache), hence the small row counts.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ExcelReaderBenchmark {
+
+    private static final String SHEET = "TestData";
+    private static final String[] STATUSES = {"Active", "Inactive", "Pending"};
+    private static final String[] BROWSERS = {"chromium", "firefox", "webkit"};
+
+    @Param({"100", "1000", "5000"})
+    public int rows;
+
+    @Param({"20"})
+    public int columns;
+
+    private File file;
+    private Workbook legacyWorkbook;
+    private LegacyExcelReader legacyReader;
+    private ExcelReaderUtils domReader;
+    private String lastColumn;
+    private Path cacheDir;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        file = Files.createTempFile("excel-benchmark", ".xlsx").toFile();
+        writeSheet(file, rows, columns);
+        lastColumn = "Column" + (columns - 1);
+
+        try (FileInputStream inputStream = new FileInputStream(file)) {
+            legacyWorkbook = new XSSFWorkbook(inputStream);
+        }
+        legacyReader = new LegacyExcelReader(legacyWorkbook, SHEET);
+
+        // Keep cache entries out of target/excel-cache and the DOM benchmarks off the cache
+        cacheDir = Files.createTempDirectory("excel-benchmark-cache");
+        System.setProperty("excel.cache.dir", cacheDir.toString());
+        System.setProperty("excel.cache.enabled", "false");
+        System.setProperty("excel.read.mode", "dom");
+        domReader = new ExcelReaderUtils(file.getPath());
+        domReader.setSheet(SHEET);
+
+        // Warm the private sheet cache for openCached
+        System.setProperty("excel.cache.enabled", "true");
+        try {
+            ExcelReaderUtils cachingReader = new ExcelReaderUtils(file.getPath());
+            cachingReader.setSheet(SHEET);
+            cachingReader.close();
+        } finally {
+            System.setProperty("excel.cache.enabled", "false");
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        legacyWorkbook.close();
+        domReader.close();
+        System.clearProperty("excel.read.mode");
+        System.clearProperty("excel.cache.dir");
+        System.clearProperty("excel.cache.enabled");
+        Files.deleteIfExists(file.toPath());
+        try (Stream<Path> entries = Files.list(cacheDir)) {
+            for (Path entry : (Iterable<Path>) entries::iterator) {
+                Files.deleteIfExists(entry);
+            }
+        }
+        Files.deleteIfExists(cacheDir);
+    }
+
+    @Benchmark
+    public void openWorkbook(Blackhole blackhole) {
+        ExcelReaderUtils reader = new ExcelReaderUtils(file.getPath());
+        try {
+            reader.setSheet(SHEET);
+            blackhole.consume(reader.getRowCount());
+        } finally {
+            reader.close();
+        }
+    }
+
+    @Benchmark
+    public void openCached(Blackhole blackhole) {
+        System.setProperty("excel.cache.enabled", "true");
+        ExcelReaderUtils reader = new ExcelReaderUtils(file.getPath());
+        try {
+            reader.setSheet(SHEET);
+            blackhole.consume(reader.getRowCount());
+        } finally {
+            reader.close();
+            System.setProperty("excel.cache.enabled", "false");
+        }
+    }
+
+    @Benchmark
+    public void legacyAllDataAsMap(Blackhole blackhole) {
+        blackhole.consume(legacyReader.getAllDataAsMap());
+    }
+
+    @Benchmark
+    public void indexedAllDataAsMap(Blackhole blackhole) {
+        blackhole.consume(domReader.getAllDataAsMap());
+    }
+
+    @Benchmark
+    public void legacyCellByColumnName(Blackhole blackhole) {
+        for (int row = 0; row < rows - 1; row += 10) {
+            blackhole.consume(legacyReader.getCellData(row, lastColumn));
+        }
+    }
+
+    @Benchmark
+    public void indexedCellByColumnName(Blackhole blackhole) {
+        for (int row = 0; row < rows - 1; row += 10) {
+            blackhole.consume(domReader.getCellData(row, lastColumn));
+        }
+    }
+
+    @Benchmark
+    public void streamAllRows(Blackhole blackhole) {
+        System.setProperty("excel.read.mode", "streaming");
+        ExcelReaderUtils streamingReader = new ExcelReaderUtils(file.getPath());
+        try {
+            streamingReader.setSheet(SHEET);
+            try (Stream<Map<String, String>> stream = streamingReader.streamRows()) {
+                stream.forEach(blackhole::consume);
+            }
+        } finally {
+            streamingReader.close();
+            System.setProperty("excel.read.mode", "dom");
+        }
+    }
+
+    /**
+     * Header row "Column0".."ColumnN"; enum-like text, numbers, booleans and one formula per row
+     */
+    private static void writeSheet(File target, int rowCount, int columnCount) throws IOException {
+        try (XSSFWorkbook workbook = new XSSFWorkbook();
+             FileOutputStream outputStream = new FileOutputStream(target)) {
+            Sheet sheet = workbook.createSheet(SHEET);
+            Row header = sheet.createRow(0);
+            for (int column = 0; column < columnCount; column++) {
+                header.createCell(column).setCellValue("Column" + column);
+            }
+            for (int rowIndex = 1; rowIndex < rowCount; rowIndex++) {
+                Row row = sheet.createRow(rowIndex);
+                for (int column = 0; column < columnCount; column++) {
+                    switch (column % 5) {
+                        case 0:
+                            row.createCell(column).setCellValue("user" + rowIndex);
+                            break;
+                        case 1:
+                            row.createCell(column).setCellValue(STATUSES[rowIndex % STATUSES.length]);
+                            break;
+                        case 2:
+                            row.createCell(column).setCellValue(BROWSERS[rowIndex % BROWSERS.length]);
+                            break;
+                        case 3:
+                            row.createCell(column).setCellValue(rowIndex % 100);
+                            break;
+                        default:
+                            row.createCell(column).setCellValue(rowIndex % 2 == 0);
+                            break;
+                    }
+                }
+                row.createCell(columnCount).setCellFormula("D" + (rowIndex + 1) + "*2");
+            }
+            header.createCell(columnCount).setCellValue("Total");
+            workbook.getCreationHelper().createFormulaEvaluator().evaluateAll();
+            workbook.write(outputStream);
+        }
+    }
+}
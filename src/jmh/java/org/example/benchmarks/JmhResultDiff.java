@@ -0,0 +1,80 @@
+package org.example.benchmarks;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compares two JMH JSON result files (-rf json), e.g. from two commits, benchmark by benchmark.
+ *
+ * Usage Example:
+ * <pre>
+ * mvn -Pjmh test-compile exec:exec -Djmh.result.file=target/jmh-main.json
+ * git checkout my-branch
+ * mvn -Pjmh test-compile exec:exec -Djmh.result.file=target/jmh-branch.json
+ * java -cp "target/test-classes:&lt;dependencies&gt;" org.example.benchmarks.JmhResultDiff \
+ *     target/jmh-main.json target/jmh-branch.json
+ * </pre>
+ * A positive change means the second run has a higher score, i.e. is slower in AverageTime mode.
+ */
+public class JmhResultDiff {
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.out.println("Usage: JmhResultDiff <baseline.json> <candidate.json>");
+            return;
+        }
+        Map<String, JsonObject> baseline = read(args[0]);
+        Map<String, JsonObject> candidate = read(args[1]);
+
+        System.out.printf("%-80s %14s %14s %9s%n", "Benchmark", "Baseline", "Candidate", "Change");
+        for (Map.Entry<String, JsonObject> entry : new TreeMap<>(candidate).entrySet()) {
+            JsonObject before = baseline.get(entry.getKey());
+            double after = score(entry.getValue());
+            String unit = entry.getValue().getAsJsonObject("primaryMetric").get("scoreUnit").getAsString();
+            if (before == null) {
+                System.out.printf("%-80s %14s %14.3f %9s  %s%n", entry.getKey(), "-", after, "new", unit);
+                continue;
+            }
+            double change = (after - score(before)) / score(before) * 100;
+            System.out.printf("%-80s %14.3f %14.3f %+8.1f%%  %s%n", entry.getKey(), score(before), after, change, unit);
+        }
+        for (String removed : baseline.keySet()) {
+            if (!candidate.containsKey(removed)) {
+                System.out.printf("%-80s %14.3f %14s %9s%n", removed, score(baseline.get(removed)), "-", "removed");
+            }
+        }
+    }
+
+    /**
+     * Results keyed by benchmark name plus its parameters, e.g. "ExcelReaderBenchmark.openCached{rows=1000}"
+     */
+    private static Map<String, JsonObject> read(String file) throws IOException {
+        JsonArray results = JsonParser.parseString(
+                new String(Files.readAllBytes(Paths.get(file)), StandardCharsets.UTF_8)).getAsJsonArray();
+        Map<String, JsonObject> byKey = new LinkedHashMap<>();
+        for (JsonElement element : results) {
+            JsonObject result = element.getAsJsonObject();
+            String benchmark = result.get("benchmark").getAsString();
+            String key = benchmark.substring(benchmark.lastIndexOf('.', benchmark.lastIndexOf('.') - 1) + 1);
+            if (result.has("params")) {
+                key += new TreeMap<>(result.getAsJsonObject("params").asMap()).toString().replace("\"", "");
+            }
+            byKey.put(key, result);
+        }
+        return byKey;
+    }
+
+    private static double score(JsonObject result) {
+        return result.getAsJsonObject("primaryMetric").get("score").getAsDouble();
+    }
+}
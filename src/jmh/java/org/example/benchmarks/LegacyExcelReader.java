@@ -0,0 +1,106 @@
+package org.example.benchmarks;
+
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellValue;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.ss.usermodel.FormulaEvaluator;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The row access of ExcelReaderUtils before the header index, the cached formula evaluator and the
+ * compact row Maps, kept as the baseline for {@link ExcelReaderBenchmark}.
+ */
+class LegacyExcelReader {
+    private final Workbook workbook;
+    private final Sheet sheet;
+
+    LegacyExcelReader(Workbook workbook, String sheetName) {
+        this.workbook = workbook;
+        this.sheet = workbook.getSheet(sheetName);
+    }
+
+    String getCellData(int rowIndex, String columnName) {
+        int columnIndex = getColumnIndex(columnName);
+        Row row = sheet.getRow(rowIndex + 1);
+        return row != null ? getCellValueAsString(row.getCell(columnIndex)) : "";
+    }
+
+    int getColumnIndex(String columnName) {
+        Row headerRow = sheet.getRow(0);
+        for (int i = 0; i < headerRow.getPhysicalNumberOfCells(); i++) {
+            Cell cell = headerRow.getCell(i);
+            if (cell != null && getCellValueAsString(cell).equalsIgnoreCase(columnName)) {
+                return i;
+            }
+        }
+        throw new RuntimeException("Column '" + columnName + "' not found in the header row");
+    }
+
+    Map<String, String> getRowDataAsMap(int rowIndex) {
+        Map<String, String> rowData = new HashMap<>();
+        Row headerRow = sheet.getRow(0);
+        Row dataRow = sheet.getRow(rowIndex + 1);
+        if (dataRow != null) {
+            for (int i = 0; i < headerRow.getPhysicalNumberOfCells(); i++) {
+                String columnName = getCellValueAsString(headerRow.getCell(i));
+                String cellValue = dataRow.getCell(i) != null ?
+                    getCellValueAsString(dataRow.getCell(i)) : "";
+                rowData.put(columnName, cellValue);
+            }
+        }
+        return rowData;
+    }
+
+    List<Map<String, String>> getAllDataAsMap() {
+        List<Map<String, String>> allData = new ArrayList<>();
+        int rowCount = sheet.getPhysicalNumberOfRows();
+        for (int i = 1; i < rowCount; i++) {
+            allData.add(getRowDataAsMap(i - 1));
+        }
+        return allData;
+    }
+
+    private String getCellValueAsString(Cell cell) {
+        if (cell == null) {
+            return "";
+        }
+        switch (cell.getCellType()) {
+            case STRING:
+                return cell.getStringCellValue();
+            case NUMERIC:
+                if (DateUtil.isCellDateFormatted(cell)) {
+                    return cell.getDateCellValue().toString();
+                }
+                double numericValue = cell.getNumericCellValue();
+                if (numericValue == (long) numericValue) {
+                    return String.valueOf((long) numericValue);
+                }
+                return String.valueOf(numericValue);
+            case BOOLEAN:
+                return String.valueOf(cell.getBooleanCellValue());
+            case FORMULA:
+                // A new evaluator for every formula cell
+                FormulaEvaluator evaluator = workbook.getCreationHelper().createFormulaEvaluator();
+                CellValue cellValue = evaluator.evaluate(cell);
+                switch (cellValue.getCellType()) {
+                    case STRING:
+                        return cellValue.getStringValue();
+                    case NUMERIC:
+                        return String.valueOf(cellValue.getNumberValue());
+                    case BOOLEAN:
+                        return String.valueOf(cellValue.getBooleanValue());
+                    default:
+                        return "";
+                }
+            default:
+                return "";
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package org.example.benchmarks;
+
+import com.microsoft.playwright.Page;
+import org.example.browser.BrowserPool;
+import org.example.browser.BrowserSession;
+import org.example.fixtures.FixtureServer;
+import org.example.pages.AmazonHomePage;
+import org.example.pages.AmazonProductPage;
+import org.example.pages.AmazonSearchResultsPage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Page object operations against the local fixture pages ({@link FixtureServer}, no injected latency)
+ * in a pooled headless browser, so the framework's own overhead per step is visible without the
+ * variance of the live sites.
+ *
+ * Usage Example:
+ * <pre>
+ * mvn -Pjmh test-compile exec:exec -Djmh.args="PageObjectBenchmark"
+ * </pre>
+ * Navigation to the starting page happens in a per-invocation setup and is not measured.
+ * Tracing and step metrics are switched off so they do not distort the numbers.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PageObjectBenchmark {
+
+    private static final String QUERY = "motorola";
+
+    /**
+     * A fixture server and a browser session for one benchmark thread
+     */
+    public abstract static class FixtureSession {
+        protected FixtureServer server;
+        protected BrowserSession session;
+        protected Page page;
+
+        @Setup(Level.Trial)
+        public void startSession() {
+            System.setProperty("browser.headless", "true");
+            System.setProperty("trace.mode", "off");
+            System.setProperty("metrics.enabled", "false");
+            server = FixtureServer.fromConfig().start();
+            session = BrowserPool.getInstance().acquire();
+            page = session.getPage();
+        }
+
+        @TearDown(Level.Trial)
+        public void endSession() {
+            session.close();
+            server.stop();
+            BrowserPool.shutdownInstance();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class HomePageState extends FixtureSession {
+        AmazonHomePage homePage;
+
+        @Setup(Level.Invocation)
+        public void openHomePage() {
+            page.navigate(server.url("amazon/index.html"));
+            homePage = new AmazonHomePage(page);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class ProductPageState extends FixtureSession {
+        AmazonProductPage productPage;
+
+        @Setup(Level.Invocation)
+        public void openProductPage() {
+            page.navigate(server.url("amazon/product.html"));
+            productPage = new AmazonProductPage(page);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class AddedToCartState extends FixtureSession {
+        AmazonProductPage productPage;
+
+        // Iteration level, so it runs after the trial-level session setup
+        @Setup(Level.Iteration)
+        public void addToCart() {
+            page.navigate(server.url("amazon/product.html"));
+            productPage = new AmazonProductPage(page).addToCart();
+        }
+    }
+
+    @Benchmark
+    public AmazonSearchResultsPage search(HomePageState state) {
+        return state.homePage.search(QUERY);
+    }
+
+    @Benchmark
+    public AmazonProductPage addToCart(ProductPageState state) {
+        return state.productPage.addToCart();
+    }
+
+    @Benchmark
+    public boolean verifyItemAddedToCart(AddedToCartState state) {
+        return state.productPage.verifyItemAddedToCart();
+    }
+}
@@ -0,0 +1,199 @@
+package org.example.browser;
+
+import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.Video;
+import io.qameta.allure.Allure;
+import io.qameta.allure.AllureLifecycle;
+import org.example.listeners.ExtentReportListeners;
+import org.example.utils.ConfigReaderUtils;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Screenshots and videos of browser sessions (artifacts.* in config.properties).
+ *
+ * <ul>
+ *   <li>artifacts.screenshot.mode: off, on-failure (a screenshot when the test failed) or steps
+ *       (additionally after every page object step)</li>
+ *   <li>artifacts.video.mode: off, on-failure (every context is recorded, the video is only kept for
+ *       failed tests) or always</li>
+ * </ul>
+ *
+ * Test threads only take the screenshot (raw PNG bytes from the driver) and pass video paths on; JPEG
+ * encoding, skipping identical consecutive step screenshots, the disk budget and writing the Allure
+ * attachments happen on the background {@link ArtifactWriter}. Every run writes to its own
+ * &lt;artifacts.dir&gt;/run-&lt;time&gt;-&lt;pid&gt; directory, and artifacts.max.disk.mb applies to
+ * that run only. The writer and the directories are only created once a test has an artifact, so
+ * runs with both modes off (or without failures in on-failure mode) leave nothing behind. The Allure
+ * attachments are reserved and the Extent links are added on the test thread when the session closes,
+ * so both end up on the right test.
+ *
+ * Usage Example:
+ * <pre>
+ * mvn test -Dartifacts.screenshot.mode=steps -Dartifacts.video.mode=on-failure
+ * </pre>
+ */
+public final class ArtifactRecorder {
+    private static final DateTimeFormatter RUN_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+    private static final Map<BrowserContext, ArtifactWriter.TestArtifacts> contexts = new ConcurrentHashMap<>();
+    private static volatile ArtifactWriter writer;
+
+    private ArtifactRecorder() {
+    }
+
+    /**
+     * Take a screenshot after a page object step if artifacts.screenshot.mode is steps
+     */
+    public static void captureStep(Page page, String step) {
+        if (!"steps".equalsIgnoreCase(ConfigReaderUtils.getInstance().getArtifactsScreenshotMode())) {
+            return;
+        }
+        ArtifactWriter.TestArtifacts test = contexts.get(page.context());
+        if (test == null || page.isClosed()) {
+            return;
+        }
+        try {
+            writer().frame(test, page.screenshot(), step);
+        } catch (RuntimeException e) {
+            // A step screenshot is best effort, e.g. the page is navigating away
+        }
+    }
+
+    /**
+     * Wait for artifacts still being written, e.g. before the JVM exits
+     */
+    public static void awaitPending(long timeoutMillis) {
+        if (writer == null) {
+            return;
+        }
+        if (!writer.awaitPending(timeoutMillis)) {
+            System.out.println("Artifacts still pending after " + timeoutMillis + " ms");
+        }
+        System.out.println(writer.summary());
+    }
+
+    /**
+     * Artifacts of a new session; {@link ArtifactWriter.TestArtifacts#NONE} if screenshots and videos are off
+     */
+    static ArtifactWriter.TestArtifacts startTest(String sessionName) {
+        ConfigReaderUtils config = ConfigReaderUtils.getInstance();
+        if ("off".equalsIgnoreCase(config.getArtifactsScreenshotMode())
+                && "off".equalsIgnoreCase(config.getArtifactsVideoMode())) {
+            return ArtifactWriter.TestArtifacts.NONE;
+        }
+        return new ArtifactWriter.TestArtifacts(sessionName != null ? sessionName : Thread.currentThread().getName());
+    }
+
+    /**
+     * Let a new context record a video if artifacts.video.mode is not off
+     */
+    static void configure(Browser.NewContextOptions options) {
+        ConfigReaderUtils config = ConfigReaderUtils.getInstance();
+        if (!"off".equalsIgnoreCase(config.getArtifactsVideoMode())) {
+            options.setRecordVideoDir(Paths.get(config.getArtifactsDir(), ".video-tmp"));
+        }
+    }
+
+    /**
+     * Collect the step screenshots of a context for a test
+     */
+    static void attach(BrowserContext context, ArtifactWriter.TestArtifacts test) {
+        if (test == ArtifactWriter.TestArtifacts.NONE) {
+            return;
+        }
+        contexts.put(context, test);
+        context.onClose(contexts::remove);
+    }
+
+    /**
+     * Raw video the page is recorded to, or null; complete once its context is closed
+     */
+    static Path videoOf(Page page) {
+        Video video = page.video();
+        return video != null ? video.path() : null;
+    }
+
+    /**
+     * Take the screenshot of a failed test, before its context is closed
+     */
+    static void captureFailure(Page page, ArtifactWriter.TestArtifacts test) {
+        if (test == ArtifactWriter.TestArtifacts.NONE || page.isClosed()
+                || "off".equalsIgnoreCase(ConfigReaderUtils.getInstance().getArtifactsScreenshotMode())) {
+            return;
+        }
+        try {
+            writer().failure(test, page.screenshot(new Page.ScreenshotOptions().setFullPage(true)));
+        } catch (RuntimeException e) {
+            System.out.println("Could not take failure screenshot of " + test.getName() + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Delete the video of a context that was replaced, e.g. by a restored storage state
+     */
+    static void discardVideo(Path video) {
+        if (video != null) {
+            writer().deleteVideo(video);
+        }
+    }
+
+    /**
+     * Hand the artifacts of a finished test to the writer, after its context is closed
+     * @param video Raw video of the last context, or null
+     */
+    static void finishTest(ArtifactWriter.TestArtifacts test, boolean failed, Path video) {
+        boolean keepVideo = video != null
+                && (failed || "always".equalsIgnoreCase(ConfigReaderUtils.getInstance().getArtifactsVideoMode()));
+        boolean hasSteps = test.getSubmittedFrames() > 0;
+        if (!test.isFailureCaptured() && !hasSteps && video == null) {
+            return;
+        }
+
+        Path dir = writer().dirOf(test);
+        AllureLifecycle lifecycle = Allure.getLifecycle();
+        boolean allure = lifecycle.getCurrentTestCaseOrStep().isPresent();
+        String failureAttachment = null;
+        String stepsAttachment = null;
+        String videoAttachment = null;
+        if (test.isFailureCaptured()) {
+            failureAttachment = allure ? lifecycle.prepareAttachment("Failure screenshot", "image/jpeg", ".jpg") : null;
+            addLink("Failure screenshot", dir.resolve("failure.jpg"));
+        }
+        if (hasSteps) {
+            stepsAttachment = allure ? lifecycle.prepareAttachment("Step screenshots", "text/html", ".html") : null;
+            addLink("Step screenshots", dir.resolve("steps.html"));
+        }
+        if (keepVideo) {
+            videoAttachment = allure ? lifecycle.prepareAttachment("Video", "video/webm", ".webm") : null;
+            addLink("Video", dir.resolve("video.webm"));
+        }
+        writer().finish(test, video, keepVideo, allure ? lifecycle : null, failureAttachment, stepsAttachment, videoAttachment);
+    }
+
+    private static void addLink(String label, Path file) {
+        ExtentReportListeners.addStep(label + ": <a href='" + file.toAbsolutePath().toUri() + "'>"
+                + file.getFileName() + "</a>", "INFO");
+    }
+
+    private static ArtifactWriter writer() {
+        if (writer == null) {
+            synchronized (ArtifactRecorder.class) {
+                if (writer == null) {
+                    ConfigReaderUtils config = ConfigReaderUtils.getInstance();
+                    String run = "run-" + LocalDateTime.now().format(RUN_TIMESTAMP) + "-" + ProcessHandle.current().pid();
+                    writer = new ArtifactWriter(Paths.get(config.getArtifactsDir(), run),
+                            config.getArtifactsMaxDiskMb() * 1024L * 1024L,
+                            config.getArtifactsJpegQuality(), config.getArtifactsQueueCapacity());
+                }
+            }
+        }
+        return writer;
+    }
+}
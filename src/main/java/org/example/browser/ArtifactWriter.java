@@ -0,0 +1,418 @@
+package org.example.browser;
+
+import io.qameta.allure.AllureLifecycle;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Single background thread behind {@link ArtifactRecorder} that turns raw screenshots and videos into
+ * report artifacts, so test threads only hand over bytes and paths.
+ *
+ * Screenshots are re-encoded as JPEG; a step screenshot identical to the previous one of the same test
+ * (same SHA-1 of the raw PNG) is skipped. Everything this writer writes counts against a disk budget;
+ * files already in the directory (e.g. of earlier runs) do not. Once the budget is used up, further
+ * artifacts are dropped and this is logged once. Step screenshots are dropped as well when the queue
+ * is full, all other work waits for queue space.
+ */
+class ArtifactWriter {
+    private static final String DROPPED = "Artifact dropped: artifacts.max.disk.mb reached";
+
+    private final Path dir;
+    private final long maxDiskBytes;
+    private final float jpegQuality;
+    private final BlockingQueue<Runnable> queue;
+    private final Thread thread;
+
+    private final AtomicInteger sequence = new AtomicInteger();
+    private final AtomicLong framesWritten = new AtomicLong();
+    private final AtomicLong framesDeduplicated = new AtomicLong();
+    private final AtomicLong framesDroppedQueueFull = new AtomicLong();
+    private final AtomicLong artifactsDroppedDiskCap = new AtomicLong();
+    private final AtomicLong videosKept = new AtomicLong();
+    private final AtomicLong videosDeleted = new AtomicLong();
+    // Only used by the writer thread
+    private long diskBytes;
+    private boolean diskCapReported;
+
+    ArtifactWriter(Path dir, long maxDiskBytes, int jpegQuality, int queueCapacity) {
+        this.dir = dir;
+        this.maxDiskBytes = maxDiskBytes;
+        this.jpegQuality = Math.min(100, Math.max(1, jpegQuality)) / 100f;
+        this.queue = new ArrayBlockingQueue<>(Math.max(16, queueCapacity));
+        this.thread = new Thread(this::run, "artifact-writer");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Artifacts of a new test; its directory is assigned with the first queued artifact
+     */
+    TestArtifacts startTest(String name) {
+        return new TestArtifacts(name);
+    }
+
+    /**
+     * Directory of a test's artifacts, &lt;dir&gt;/&lt;name&gt;-&lt;n&gt;; assigned on the test thread when
+     * the first artifact of the test is queued. Nothing is created on disk until a file is written.
+     */
+    Path dirOf(TestArtifacts test) {
+        if (test.dir == null) {
+            test.dir = dir.resolve(test.name.replaceAll("[^A-Za-z0-9._-]", "_") + "-" + sequence.incrementAndGet());
+        }
+        return test.dir;
+    }
+
+    /**
+     * Queue a step screenshot; dropped if the queue is full
+     */
+    void frame(TestArtifacts test, byte[] png, String label) {
+        dirOf(test);
+        int index = test.submittedFrames++;
+        boolean queued = queue.offer(() -> writeFrame(test, png, index, label));
+        if (!queued) {
+            framesDroppedQueueFull.incrementAndGet();
+        }
+    }
+
+    /**
+     * Queue the screenshot taken when the test failed
+     */
+    void failure(TestArtifacts test, byte[] png) {
+        dirOf(test);
+        test.failureCaptured = true;
+        publish(() -> {
+            byte[] jpeg = toJpeg(png);
+            if (jpeg != null && write(test.dir.resolve("failure.jpg"), jpeg)) {
+                test.failureJpeg = jpeg;
+            }
+        });
+    }
+
+    /**
+     * Queue the end of a test: keep or delete the video and write the reserved Allure attachments.
+     * Runs after all earlier work of the test, since the queue is processed in order.
+     * @param video Raw video of the test's context, or null
+     * @param keepVideo Whether the video is kept (failed test or video mode always)
+     * @param lifecycle Allure lifecycle the attachments were reserved on, or null
+     */
+    void finish(TestArtifacts test, Path video, boolean keepVideo, AllureLifecycle lifecycle,
+                String failureAttachment, String stepsAttachment, String videoAttachment) {
+        dirOf(test);
+        publish(() -> {
+            if (failureAttachment != null) {
+                attach(lifecycle, failureAttachment, test.failureJpeg);
+            }
+            if (!test.frames.isEmpty()) {
+                writeGallery(test);
+            }
+            if (stepsAttachment != null) {
+                attach(lifecycle, stepsAttachment, test.frames.isEmpty() ? null : embeddedGallery(test));
+            }
+            if (video != null) {
+                storeVideo(test, video, keepVideo, lifecycle, videoAttachment);
+            }
+        });
+    }
+
+    /**
+     * Queue deleting a video that is not needed, e.g. of a context replaced by a restored state
+     */
+    void deleteVideo(Path video) {
+        publish(() -> {
+            try {
+                Files.deleteIfExists(video);
+                videosDeleted.incrementAndGet();
+            } catch (IOException e) {
+                System.out.println("Could not delete video " + video + ": " + e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * Wait until everything queued so far is written
+     * @return Whether the queue drained within the timeout
+     */
+    boolean awaitPending(long timeoutMillis) {
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        try {
+            if (!queue.offer(() -> done.complete(null), timeoutMillis, TimeUnit.MILLISECONDS)) {
+                return false;
+            }
+            done.get(timeoutMillis, TimeUnit.MILLISECONDS);
+            return true;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    String summary() {
+        return "Artifacts: " + framesWritten.get() + " step screenshots written, "
+                + framesDeduplicated.get() + " identical skipped, " + framesDroppedQueueFull.get()
+                + " dropped (queue full), " + artifactsDroppedDiskCap.get() + " artifacts dropped (disk cap), "
+                + videosKept.get() + " videos kept, " + videosDeleted.get() + " deleted, "
+                + diskBytes / 1024 + " KB on disk";
+    }
+
+    long getFramesWritten() {
+        return framesWritten.get();
+    }
+
+    long getFramesDeduplicated() {
+        return framesDeduplicated.get();
+    }
+
+    long getArtifactsDroppedDiskCap() {
+        return artifactsDroppedDiskCap.get();
+    }
+
+    private void publish(Runnable task) {
+        try {
+            queue.put(task);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void run() {
+        while (true) {
+            try {
+                queue.take().run();
+            } catch (InterruptedException e) {
+                return;
+            } catch (RuntimeException e) {
+                System.out.println("Artifact writer error: " + e);
+            }
+        }
+    }
+
+    private void writeFrame(TestArtifacts test, byte[] png, int index, String label) {
+        byte[] hash = sha1(png);
+        if (Arrays.equals(hash, test.lastFrameHash)) {
+            framesDeduplicated.incrementAndGet();
+            return;
+        }
+        test.lastFrameHash = hash;
+        byte[] jpeg = toJpeg(png);
+        String fileName = String.format("step-%03d-%s.jpg", index, label.replaceAll("[^A-Za-z0-9._-]", "_"));
+        if (jpeg != null && write(test.dir.resolve(fileName), jpeg)) {
+            test.frames.add(new Frame(fileName, label));
+            framesWritten.incrementAndGet();
+        }
+    }
+
+    private void writeGallery(TestArtifacts test) {
+        StringBuilder html = galleryHeader(test);
+        for (Frame frame : test.frames) {
+            html.append("<figure><img src='").append(frame.fileName).append("'><figcaption>")
+                    .append(escape(frame.label)).append("</figcaption></figure>\n");
+        }
+        write(test.dir.resolve("steps.html"), html.append("</body></html>").toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Self-contained gallery for Allure, which cannot link to files outside its results
+     */
+    private byte[] embeddedGallery(TestArtifacts test) {
+        StringBuilder html = galleryHeader(test);
+        for (Frame frame : test.frames) {
+            try {
+                byte[] jpeg = Files.readAllBytes(test.dir.resolve(frame.fileName));
+                html.append("<figure><img src='data:image/jpeg;base64,")
+                        .append(Base64.getEncoder().encodeToString(jpeg)).append("'><figcaption>")
+                        .append(escape(frame.label)).append("</figcaption></figure>\n");
+            } catch (IOException e) {
+                System.out.println("Could not read step screenshot " + frame.fileName + ": " + e.getMessage());
+            }
+        }
+        return html.append("</body></html>").toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static StringBuilder galleryHeader(TestArtifacts test) {
+        return new StringBuilder("<html><head><meta charset='UTF-8'><title>").append(escape(test.name))
+                .append("</title><style>img{max-width:100%;border:1px solid #ccc}</style></head><body>\n");
+    }
+
+    private void storeVideo(TestArtifacts test, Path video, boolean keep, AllureLifecycle lifecycle, String attachment) {
+        try {
+            long size = Files.exists(video) ? Files.size(video) : 0;
+            if (!keep || size == 0 || diskBytes + size > maxDiskBytes) {
+                if (keep && size > 0) {
+                    droppedForDiskCap();
+                }
+                Files.deleteIfExists(video);
+                videosDeleted.incrementAndGet();
+                if (attachment != null) {
+                    attach(lifecycle, attachment, null);
+                }
+                return;
+            }
+            Files.createDirectories(test.dir);
+            Path target = test.dir.resolve("video.webm");
+            Files.move(video, target, StandardCopyOption.REPLACE_EXISTING);
+            diskBytes += size;
+            videosKept.incrementAndGet();
+            if (attachment != null) {
+                try (InputStream inputStream = Files.newInputStream(target)) {
+                    lifecycle.writeAttachment(attachment, inputStream);
+                }
+            }
+        } catch (IOException e) {
+            System.out.println("Could not store video " + video + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Write a reserved Allure attachment, or a note if the artifact was dropped
+     */
+    private void attach(AllureLifecycle lifecycle, String attachment, byte[] content) {
+        byte[] bytes = content != null && diskBytes + content.length <= maxDiskBytes
+                ? content : DROPPED.getBytes(StandardCharsets.UTF_8);
+        diskBytes += bytes.length;
+        lifecycle.writeAttachment(attachment, new ByteArrayInputStream(bytes));
+    }
+
+    private boolean write(Path file, byte[] content) {
+        if (diskBytes + content.length > maxDiskBytes) {
+            droppedForDiskCap();
+            return false;
+        }
+        try {
+            Files.createDirectories(file.getParent());
+            Files.write(file, content);
+            diskBytes += content.length;
+            return true;
+        } catch (IOException e) {
+            System.out.println("Could not write artifact " + file + ": " + e.getMessage());
+            return false;
+        }
+    }
+
+    private void droppedForDiskCap() {
+        artifactsDroppedDiskCap.incrementAndGet();
+        if (!diskCapReported) {
+            diskCapReported = true;
+            System.out.println("Artifact disk budget of " + maxDiskBytes / 1024
+                    + " KB used up, dropping further screenshots and videos of this run (artifacts.max.disk.mb)");
+        }
+    }
+
+    private byte[] toJpeg(byte[] png) {
+        try {
+            BufferedImage image = ImageIO.read(new ByteArrayInputStream(png));
+            if (image == null) {
+                return null;
+            }
+            // JPEG has no alpha channel
+            BufferedImage rgb = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_RGB);
+            Graphics2D graphics = rgb.createGraphics();
+            graphics.drawImage(image, 0, 0, Color.WHITE, null);
+            graphics.dispose();
+
+            ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(jpegQuality);
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (ImageOutputStream output = ImageIO.createImageOutputStream(bytes)) {
+                writer.setOutput(output);
+                writer.write(null, new IIOImage(rgb, null, null), param);
+            } finally {
+                writer.dispose();
+            }
+            return bytes.toByteArray();
+        } catch (IOException e) {
+            System.out.println("Could not encode screenshot: " + e.getMessage());
+            return null;
+        }
+    }
+
+    private static byte[] sha1(byte[] content) {
+        try {
+            return MessageDigest.getInstance("SHA-1").digest(content);
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException("SHA-1 not available", e);
+        }
+    }
+
+    private static String escape(String text) {
+        return text.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;");
+    }
+
+    /**
+     * Artifacts of one test. The directory and counters are set by the test thread before work is queued,
+     * everything else only by the writer thread.
+     */
+    static final class TestArtifacts {
+        // Session without any artifact mode; never handed to a writer
+        static final TestArtifacts NONE = new TestArtifacts("none");
+
+        private final String name;
+        private Path dir;
+        private int submittedFrames;
+        private boolean failureCaptured;
+        // Writer thread only
+        private byte[] lastFrameHash;
+        private byte[] failureJpeg;
+        private final List<Frame> frames = new ArrayList<>();
+
+        TestArtifacts(String name) {
+            this.name = name;
+        }
+
+        String getName() {
+            return name;
+        }
+
+        /**
+         * Directory of the artifacts, or null while none was queued
+         */
+        Path getDir() {
+            return dir;
+        }
+
+        int getSubmittedFrames() {
+            return submittedFrames;
+        }
+
+        boolean isFailureCaptured() {
+            return failureCaptured;
+        }
+    }
+
+    private static final class Frame {
+        private final String fileName;
+        private final String label;
+
+        private Frame(String fileName, String label) {
+            this.fileName = fileName;
+            this.label = label;
+        }
+    }
+}
@@ -0,0 +1,237 @@
+package org.example.browser;
+
+import org.example.utils.ConfigReaderUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Suite-scoped pool of warm Chromium browsers.
+ *
+ * Starting a Playwright driver and a browser is the most expensive part of a test, so the pool
+ * keeps up to {@code browser.pool.size} browsers alive for the whole run. Every test leases a
+ * {@link BrowserSession} which owns a fresh, isolated BrowserContext and Page; closing the
+ * session closes the context and returns the browser to the pool.
+ *
+ * Usage Example:
+ * <pre>
+ * try (BrowserSession session = BrowserPool.getInstance().acquire()) {
+ *     new GooglePage(session.getPage()).navigate();
+ * }
+ * </pre>
+ *
+ * Browsers are health checked before every lease and recycled after {@code browser.pool.max.uses}
+ * sessions. {@link #shutdown()} is called by {@code BrowserPoolListener} at the end of the suite,
+ * with a JVM shutdown hook as a safety net.
+ */
+public class BrowserPool {
+    private static final long IDLE_POLL_SLICE_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private static volatile BrowserPool instance;
+
+    private final int size;
+    private final int maxUses;
+    private final int acquireTimeout;
+    private final boolean headless;
+
+    private final BlockingQueue<PooledBrowser> idleBrowsers = new LinkedBlockingQueue<>();
+    private final List<PooledBrowser> allBrowsers = new ArrayList<>();
+    private int liveBrowsers;
+    private int nextId;
+    private boolean shutdown;
+
+    private BrowserPool() {
+        ConfigReaderUtils config = ConfigReaderUtils.getInstance();
+        this.size = Math.max(1, config.getBrowserPoolSize());
+        this.maxUses = Math.max(1, config.getBrowserPoolMaxUses());
+        this.acquireTimeout = config.getBrowserPoolAcquireTimeout();
+        this.headless = config.isHeadless();
+
+        Runtime.getRuntime().addShutdownHook(new Thread(this::shutdown, "browser-pool-shutdown"));
+    }
+
+    /**
+     * Get singleton instance of BrowserPool, creating a new pool if the previous one was shut down
+     */
+    public static BrowserPool getInstance() {
+        BrowserPool pool = instance;
+        if (pool == null || pool.isShutdown()) {
+            synchronized (BrowserPool.class) {
+                pool = instance;
+                if (pool == null || pool.isShutdown()) {
+                    pool = new BrowserPool();
+                    instance = pool;
+                }
+            }
+        }
+        return pool;
+    }
+
+    /**
+     * Shut down the current pool if one was ever created
+     */
+    public static void shutdownInstance() {
+        BrowserPool pool = instance;
+        if (pool != null) {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Lease a warm browser and open a fresh context and page on it
+     * @return Session that must be closed to return the browser to the pool
+     */
+    public BrowserSession acquire() {
+        return acquire(null);
+    }
+
+    /**
+     * Lease a browser for a named session; the name selects the HAR archive in record/replay mode
+     * @param sessionName Session name, e.g. "PlayWrightTest.testGoogleTitle", or null
+     */
+    public BrowserSession acquire(String sessionName) {
+        PooledBrowser pooledBrowser = takeHealthyBrowser();
+        try {
+            pooledBrowser.markUsed();
+            return new BrowserSession(this, pooledBrowser, sessionName);
+        } catch (RuntimeException e) {
+            discard(pooledBrowser);
+            throw e;
+        }
+    }
+
+    /**
+     * Return a browser to the pool, recycling it once it reached its use limit or became unhealthy
+     */
+    void release(PooledBrowser pooledBrowser) {
+        synchronized (this) {
+            if (shutdown) {
+                if (allBrowsers.remove(pooledBrowser)) {
+                    liveBrowsers--;
+                }
+                pooledBrowser.close();
+                return;
+            }
+        }
+        if (pooledBrowser.getUses() >= maxUses || !pooledBrowser.isHealthy()) {
+            discard(pooledBrowser);
+            return;
+        }
+        idleBrowsers.offer(pooledBrowser);
+    }
+
+    /**
+     * Close every browser in the pool. Sessions still leased are closed when they are released.
+     */
+    public void shutdown() {
+        List<PooledBrowser> toClose = new ArrayList<>();
+        synchronized (this) {
+            if (shutdown) {
+                return;
+            }
+            shutdown = true;
+            idleBrowsers.drainTo(toClose);
+            allBrowsers.removeAll(toClose);
+            liveBrowsers -= toClose.size();
+        }
+        for (PooledBrowser pooledBrowser : toClose) {
+            pooledBrowser.close();
+        }
+    }
+
+    public synchronized boolean isShutdown() {
+        return shutdown;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Number of browsers currently alive (idle or leased)
+     */
+    public synchronized int getLiveBrowserCount() {
+        return liveBrowsers;
+    }
+
+    private PooledBrowser takeHealthyBrowser() {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(acquireTimeout);
+        while (true) {
+            PooledBrowser pooledBrowser = idleBrowsers.poll();
+            if (pooledBrowser == null) {
+                pooledBrowser = launchIfBelowCapacity();
+            }
+            if (pooledBrowser == null) {
+                pooledBrowser = pollIdleBrowser(deadline);
+            }
+            if (pooledBrowser == null) {
+                // Nothing free yet; a slot may have opened up through a discarded browser
+                continue;
+            }
+            if (pooledBrowser.isHealthy()) {
+                return pooledBrowser;
+            }
+            discard(pooledBrowser);
+        }
+    }
+
+    private PooledBrowser launchIfBelowCapacity() {
+        int id;
+        synchronized (this) {
+            if (shutdown) {
+                throw new IllegalStateException("Browser pool has been shut down");
+            }
+            if (liveBrowsers >= size) {
+                return null;
+            }
+            // Reserve the slot before launching so concurrent callers cannot overshoot the size
+            liveBrowsers++;
+            id = ++nextId;
+        }
+        // Launch outside the lock so other threads can keep leasing idle browsers meanwhile
+        PooledBrowser pooledBrowser;
+        try {
+            pooledBrowser = new PooledBrowser(id, headless);
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                liveBrowsers--;
+            }
+            throw e;
+        }
+        synchronized (this) {
+            if (shutdown) {
+                liveBrowsers--;
+                pooledBrowser.close();
+                throw new IllegalStateException("Browser pool has been shut down");
+            }
+            allBrowsers.add(pooledBrowser);
+        }
+        return pooledBrowser;
+    }
+
+    private PooledBrowser pollIdleBrowser(long deadline) {
+        long remaining = deadline - System.nanoTime();
+        if (remaining <= 0) {
+            throw new RuntimeException("Timed out after " + acquireTimeout +
+                    " ms waiting for a free browser. Pool size: " + size);
+        }
+        try {
+            return idleBrowsers.poll(Math.min(remaining, IDLE_POLL_SLICE_NANOS), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for a free browser", e);
+        }
+    }
+
+    private void discard(PooledBrowser pooledBrowser) {
+        synchronized (this) {
+            if (allBrowsers.remove(pooledBrowser)) {
+                liveBrowsers--;
+            }
+        }
+        pooledBrowser.close();
+    }
+}
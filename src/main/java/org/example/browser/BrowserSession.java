@@ -0,0 +1,184 @@
+package org.example.browser;
+
+import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.Page;
+import org.example.network.HarArchive;
+import org.example.network.RequestFilter;
+import org.example.utils.ConfigReaderUtils;
+
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A single test's lease on a pooled browser: one isolated BrowserContext with one Page.
+ *
+ * Page objects keep receiving the plain {@link Page} from {@link #getPage()}. Closing the
+ * session closes the context (cookies, storage and pages are discarded) and hands the warm
+ * browser back to the {@link BrowserPool}.
+ *
+ * With network.filter.enabled the context gets a {@link RequestFilter}; its counts are printed on close.
+ * Named sessions take part in HAR record/replay ({@link HarArchive}).
+ * {@link #restoreState(String)} swaps in a fresh context that starts from a saved storage state,
+ * which is how {@link JourneyStateCache} skips journey steps.
+ * Contexts are traced according to trace.mode; see {@link TraceRecorder}. Screenshots and videos
+ * are taken according to artifacts.*; see {@link ArtifactRecorder}.
+ * A journey that continues on another tab of the context reports it with {@link #continueOn(Page)},
+ * so the failure screenshot and video are taken from that tab.
+ */
+public class BrowserSession implements AutoCloseable {
+    private static final Map<BrowserContext, BrowserSession> sessions = new ConcurrentHashMap<>();
+
+    private final BrowserPool pool;
+    private final PooledBrowser pooledBrowser;
+    private final String name;
+    private final ArtifactWriter.TestArtifacts artifacts;
+    private BrowserContext context;
+    private Page page;
+    private volatile Page journeyPage;
+    private RequestFilter requestFilter;
+    private boolean failed;
+    private boolean closed;
+
+    BrowserSession(BrowserPool pool, PooledBrowser pooledBrowser, String name) {
+        this.pool = pool;
+        this.pooledBrowser = pooledBrowser;
+        this.name = name;
+        this.artifacts = ArtifactRecorder.startTest(name);
+        openContext(null);
+    }
+
+    /**
+     * Replace the context with a fresh one that starts from a saved storage state
+     * (cookies and localStorage, as returned by BrowserContext.storageState()).
+     * The page of the old context is closed, so call {@link #getPage()} again afterwards.
+     */
+    public Page restoreState(String storageState) {
+        if (closed) {
+            throw new IllegalStateException("Browser session is already closed");
+        }
+        // The video of the replaced context only shows the skipped journey steps
+        Path video = ArtifactRecorder.videoOf(getJourneyPage());
+        closeContext();
+        ArtifactRecorder.discardVideo(video);
+        openContext(storageState);
+        return page;
+    }
+
+    private void openContext(String storageState) {
+        Browser.NewContextOptions options = HarArchive.contextOptions(name);
+        if (storageState != null) {
+            options.setStorageState(storageState);
+        }
+        ArtifactRecorder.configure(options);
+        context = pooledBrowser.getBrowser().newContext(options);
+        TraceRecorder.start(context);
+        ArtifactRecorder.attach(context, artifacts);
+        requestFilter = ConfigReaderUtils.getInstance().isNetworkFilterEnabled()
+                ? RequestFilter.install(context) : null;
+        // Registered after the filter, so recorded responses are served first
+        HarArchive.attach(context, name);
+        page = context.newPage();
+        journeyPage = page;
+        sessions.put(context, this);
+    }
+
+    /**
+     * Record that the journey continues on another page of a session's context, e.g. a result
+     * opened in a new tab. Pages that do not belong to a session are ignored.
+     */
+    public static void continueOn(Page page) {
+        BrowserSession session = sessions.get(page.context());
+        if (session != null) {
+            session.journeyPage = page;
+        }
+    }
+
+    private void closeContext() {
+        sessions.remove(context);
+        if (requestFilter != null) {
+            System.out.println("Network filter on " + (name != null ? name : Thread.currentThread().getName())
+                    + ": " + requestFilter.getStats());
+        }
+        try {
+            context.close();
+        } catch (RuntimeException e) {
+            // Context already gone together with a crashed browser; the pool health check handles it
+        }
+    }
+
+    /**
+     * Get the page for this session
+     */
+    public Page getPage() {
+        return page;
+    }
+
+    /**
+     * Get the page the journey is currently on: the last page passed to {@link #continueOn(Page)}
+     * while it is open, otherwise the session's page
+     */
+    public Page getJourneyPage() {
+        Page current = journeyPage;
+        return current != null && !current.isClosed() ? current : page;
+    }
+
+    /**
+     * Get the isolated browser context for this session
+     */
+    public BrowserContext getContext() {
+        return context;
+    }
+
+    /**
+     * Get the session name (used for HAR archives), or null for an anonymous session
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Get the request filter of the context, or null if filtering is disabled
+     */
+    public RequestFilter getRequestFilter() {
+        return requestFilter;
+    }
+
+    /**
+     * Close the session, keeping the Playwright trace, a screenshot and the video of its context if the test failed
+     * @param failed Whether the test run in this session failed
+     */
+    public void close(boolean failed) {
+        if (!closed) {
+            this.failed = failed;
+            if (failed) {
+                ArtifactRecorder.captureFailure(getJourneyPage(), artifacts);
+            }
+            try {
+                TraceRecorder.stop(context, name, failed);
+            } catch (RuntimeException e) {
+                System.out.println("Could not stop tracing for " + name + ": " + e.getMessage());
+            }
+        }
+        close();
+    }
+
+    /**
+     * Close the context and return the browser to the pool
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        Path video = ArtifactRecorder.videoOf(getJourneyPage());
+        try {
+            closeContext();
+        } finally {
+            pool.release(pooledBrowser);
+        }
+        ArtifactRecorder.finishTest(artifacts, failed, video);
+    }
+}
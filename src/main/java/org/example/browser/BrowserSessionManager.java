@@ -0,0 +1,92 @@
+package org.example.browser;
+
+import com.microsoft.playwright.Page;
+import org.testng.ITestResult;
+
+import java.lang.reflect.Method;
+
+/**
+ * Thread-confined access to the current test's {@link BrowserSession}.
+ *
+ * With {@code parallel="methods"} every TestNG worker thread runs its own test, so the session
+ * (and the Playwright objects behind it) is kept in a ThreadLocal instead of an instance field
+ * of the test class. Sessions are leased from the shared {@link BrowserPool}.
+ */
+public final class BrowserSessionManager {
+    private static final ThreadLocal<BrowserSession> currentSession = new ThreadLocal<>();
+
+    private BrowserSessionManager() {
+    }
+
+    /**
+     * Lease a session for the current thread, closing any session the thread still holds
+     * @return Session bound to the current thread
+     */
+    public static BrowserSession startSession() {
+        return startSession((String) null);
+    }
+
+    /**
+     * Lease a session named after a test method ("TestClass.testMethod"), so HAR record/replay
+     * can find the method's archive
+     * @param testMethod The test method about to run
+     * @return Session bound to the current thread
+     */
+    public static BrowserSession startSession(Method testMethod) {
+        return startSession(testMethod.getDeclaringClass().getSimpleName() + "." + testMethod.getName());
+    }
+
+    /**
+     * Lease a named session for the current thread, closing any session the thread still holds
+     * @param sessionName Session name, or null for an anonymous session
+     * @return Session bound to the current thread
+     */
+    public static BrowserSession startSession(String sessionName) {
+        endSession();
+        BrowserSession session = BrowserPool.getInstance().acquire(sessionName);
+        currentSession.set(session);
+        return session;
+    }
+
+    /**
+     * Get the session bound to the current thread
+     */
+    public static BrowserSession getSession() {
+        BrowserSession session = currentSession.get();
+        if (session == null) {
+            throw new IllegalStateException("No browser session for thread " +
+                    Thread.currentThread().getName() + ". Please call startSession() first.");
+        }
+        return session;
+    }
+
+    /**
+     * Get the page of the session bound to the current thread
+     */
+    public static Page getPage() {
+        return getSession().getPage();
+    }
+
+    /**
+     * Close the current thread's session (if any) and return its browser to the pool
+     */
+    public static void endSession() {
+        BrowserSession session = currentSession.get();
+        currentSession.remove();
+        if (session != null) {
+            session.close();
+        }
+    }
+
+    /**
+     * Close the current thread's session (if any), keeping its Playwright trace when the test failed
+     * @param result Result of the test that used the session
+     */
+    public static void endSession(ITestResult result) {
+        BrowserSession session = currentSession.get();
+        currentSession.remove();
+        if (session != null) {
+            session.close(result.getStatus() == ITestResult.FAILURE);
+        }
+    }
+}
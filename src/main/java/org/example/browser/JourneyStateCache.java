@@ -0,0 +1,139 @@
+package org.example.browser;
+
+import com.microsoft.playwright.Page;
+import org.example.utils.ConfigReaderUtils;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * Suite-wide cache of browser state after named journey prefixes, e.g. "Amazon search results for motorola".
+ *
+ * The first test that needs a journey runs its steps and the cache snapshots the context's storage
+ * state (cookies, localStorage) and the page URL. Later tests get a fresh context restored from that
+ * snapshot and navigate straight to the URL instead of repeating the steps. Snapshots expire after
+ * journey.cache.ttl.seconds. Each journey has its own lock, so parallel tests needing the same journey
+ * wait for the one recording it instead of all running the steps; different journeys do not block
+ * each other.
+ *
+ * sessionStorage and in-page state are not part of a snapshot, so a journey must end on a page
+ * that renders from its URL and storage alone. With journey.cache.enabled=false or har.mode=record
+ * the steps always run, so recordings contain the complete journey.
+ *
+ * Usage Example:
+ * <pre>
+ * Page page = JourneyStateCache.getInstance().startFrom("amazon-search:" + config.getAmazonUrl() + ":motorola",
+ *         journeyPage -> new AmazonHomePage(journeyPage).navigate().search("motorola"));
+ * new AmazonSearchResultsPage(page).clickFirstSearchResult();
+ * </pre>
+ */
+public final class JourneyStateCache {
+    private static final JourneyStateCache instance = new JourneyStateCache();
+
+    private final Map<String, Snapshot> snapshots = new ConcurrentHashMap<>();
+    private final Map<String, ReentrantLock> locks = new ConcurrentHashMap<>();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    private JourneyStateCache() {
+    }
+
+    public static JourneyStateCache getInstance() {
+        return instance;
+    }
+
+    /**
+     * Bring the current thread's session to the end of a journey, from a snapshot if there is a fresh one
+     * @param journey Name of the journey prefix; include anything the steps depend on (e.g. the base URL,
+     *                the config profile and the query)
+     * @param steps Steps that perform the journey on the given page
+     * @return The page to continue on (a new page if the state was restored)
+     */
+    public Page startFrom(String journey, Consumer<Page> steps) {
+        BrowserSession session = BrowserSessionManager.getSession();
+        if (!isEnabled()) {
+            steps.accept(session.getPage());
+            return session.getPage();
+        }
+
+        Snapshot snapshot = fresh(journey);
+        if (snapshot == null) {
+            ReentrantLock lock = locks.computeIfAbsent(journey, key -> new ReentrantLock());
+            lock.lock();
+            try {
+                // Another thread may have recorded the journey while this one waited
+                snapshot = fresh(journey);
+                if (snapshot == null) {
+                    misses.incrementAndGet();
+                    Page page = session.getPage();
+                    steps.accept(page);
+                    snapshots.put(journey, new Snapshot(page.context().storageState(), page.url()));
+                    System.out.println("Journey '" + journey + "' recorded at " + page.url());
+                    return page;
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        hits.incrementAndGet();
+        Page page = session.restoreState(snapshot.storageState);
+        page.navigate(snapshot.url);
+        return page;
+    }
+
+    /**
+     * Drop the snapshot of a journey, e.g. after a test found it no longer valid
+     */
+    public void invalidate(String journey) {
+        snapshots.remove(journey);
+    }
+
+    /**
+     * Drop all snapshots
+     */
+    public void clear() {
+        snapshots.clear();
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    private Snapshot fresh(String journey) {
+        Snapshot snapshot = snapshots.get(journey);
+        if (snapshot == null) {
+            return null;
+        }
+        long ttlNanos = TimeUnit.SECONDS.toNanos(ConfigReaderUtils.getInstance().getJourneyCacheTtlSeconds());
+        if (System.nanoTime() - snapshot.createdAt > ttlNanos) {
+            snapshots.remove(journey, snapshot);
+            return null;
+        }
+        return snapshot;
+    }
+
+    private static boolean isEnabled() {
+        ConfigReaderUtils config = ConfigReaderUtils.getInstance();
+        return config.isJourneyCacheEnabled() && !"record".equalsIgnoreCase(config.getHarMode());
+    }
+
+    private static final class Snapshot {
+        private final String storageState;
+        private final String url;
+        private final long createdAt = System.nanoTime();
+
+        Snapshot(String storageState, String url) {
+            this.storageState = storageState;
+            this.url = url;
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package org.example.browser;
+
+import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.BrowserType;
+import com.microsoft.playwright.Playwright;
+
+/**
+ * A warm Chromium instance owned by the {@link BrowserPool}.
+ *
+ * Each pooled browser has its own Playwright driver connection, because Playwright objects
+ * must never be used by two threads at the same time. The pool hands a browser to exactly
+ * one borrower at a time, so the objects below are only ever touched by the current owner.
+ */
+class PooledBrowser {
+    private final int id;
+    private final Playwright playwright;
+    private final Browser browser;
+    private int uses;
+
+    PooledBrowser(int id, boolean headless) {
+        this.id = id;
+        this.playwright = Playwright.create();
+        try {
+            this.browser = playwright.chromium().launch(
+                new BrowserType.LaunchOptions().setHeadless(headless)
+            );
+        } catch (RuntimeException e) {
+            playwright.close();
+            throw e;
+        }
+    }
+
+    int getId() {
+        return id;
+    }
+
+    Browser getBrowser() {
+        return browser;
+    }
+
+    int getUses() {
+        return uses;
+    }
+
+    /**
+     * Record that the browser was leased for one more session
+     */
+    void markUsed() {
+        uses++;
+    }
+
+    /**
+     * Health check: the browser process is alive and the driver connection is open
+     */
+    boolean isHealthy() {
+        try {
+            return browser.isConnected();
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Close the browser and its driver process, ignoring errors from already dead processes
+     */
+    void close() {
+        try {
+            browser.close();
+        } catch (RuntimeException e) {
+            // Browser process already gone
+        }
+        try {
+            playwright.close();
+        } catch (RuntimeException e) {
+            // Driver process already gone
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package org.example.browser;
+
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.Tracing;
+import io.qameta.allure.Allure;
+import io.qameta.allure.AllureLifecycle;
+import org.example.listeners.ExtentReportListeners;
+import org.example.utils.ConfigReaderUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Playwright tracing of browser sessions, kept only for failed tests (trace.mode in config.properties).
+ *
+ * <ul>
+ *   <li>off - no tracing</li>
+ *   <li>on-failure - every context records a trace in the driver; it is written out only when the test
+ *       failed and discarded otherwise. Screenshots and DOM snapshots are off by default in this mode,
+ *       since they would be recorded for every green test too; the actions and network log are cheap</li>
+ *   <li>always - every named session's trace is kept</li>
+ * </ul>
+ *
+ * Playwright assembles the trace zip itself when tracing stops. Moving it into trace.dir and copying
+ * it into the Allure results happen on a background thread, so the test thread only waits for the
+ * driver. The Allure attachment is reserved and the Extent link is added on the test thread, so both
+ * end up on the right test. Open a trace with: mvn exec:java -e -D exec.mainClass=com.microsoft.playwright.CLI
+ * -D exec.args="show-trace target/traces/&lt;test&gt;.zip"
+ */
+public final class TraceRecorder {
+    private static final AtomicInteger sequence = new AtomicInteger();
+    private static final ExecutorService writer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "trace-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private TraceRecorder() {
+    }
+
+    /**
+     * Start tracing a new context if trace.mode is not off
+     */
+    static void start(BrowserContext context) {
+        ConfigReaderUtils config = ConfigReaderUtils.getInstance();
+        if ("off".equalsIgnoreCase(config.getTraceMode())) {
+            return;
+        }
+        context.tracing().start(new Tracing.StartOptions()
+                .setScreenshots(config.isTraceScreenshots())
+                .setSnapshots(config.isTraceSnapshots())
+                .setSources(config.isTraceSources()));
+    }
+
+    /**
+     * Stop tracing a context, keeping the trace when the test failed (or in always mode)
+     * @param sessionName Name of the session, used for the trace file name
+     * @param failed Whether the test failed
+     * @return Path the trace is written to in the background, or null if it was discarded
+     */
+    static Path stop(BrowserContext context, String sessionName, boolean failed) {
+        String mode = ConfigReaderUtils.getInstance().getTraceMode();
+        if ("off".equalsIgnoreCase(mode)) {
+            return null;
+        }
+        boolean keep = failed || "always".equalsIgnoreCase(mode);
+        if (!keep) {
+            context.tracing().stop();
+            return null;
+        }
+
+        Path dir = Paths.get(ConfigReaderUtils.getInstance().getTraceDir());
+        String baseName = (sessionName != null ? sessionName : Thread.currentThread().getName())
+                .replaceAll("[^A-Za-z0-9._-]", "_") + "-" + sequence.incrementAndGet();
+        Path rawTrace = dir.resolve(".tmp").resolve(baseName + ".zip");
+        Path trace = dir.resolve(baseName + ".zip");
+        try {
+            Files.createDirectories(rawTrace.getParent());
+        } catch (IOException e) {
+            throw new RuntimeException("Could not create trace directory " + rawTrace.getParent(), e);
+        }
+        context.tracing().stop(new Tracing.StopOptions().setPath(rawTrace));
+
+        AllureLifecycle lifecycle = Allure.getLifecycle();
+        String attachment = lifecycle.getCurrentTestCaseOrStep().isPresent()
+                ? lifecycle.prepareAttachment("Playwright trace", "application/zip", ".zip") : null;
+        ExtentReportListeners.addStep("Playwright trace: <a href='" + trace.toAbsolutePath().toUri()
+                + "'>" + trace.getFileName() + "</a>", "INFO");
+
+        writer.submit(() -> store(rawTrace, trace, lifecycle, attachment));
+        return trace;
+    }
+
+    /**
+     * Wait for traces still being written, e.g. before the JVM exits
+     */
+    public static void awaitPending(long timeoutMillis) {
+        try {
+            writer.submit(() -> { }).get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (Exception e) {
+            System.out.println("Traces still pending after " + timeoutMillis + " ms: " + e);
+        }
+    }
+
+    private static void store(Path rawTrace, Path trace, AllureLifecycle lifecycle, String attachment) {
+        try {
+            Files.move(rawTrace, trace, StandardCopyOption.REPLACE_EXISTING);
+            if (attachment != null) {
+                try (InputStream inputStream = Files.newInputStream(trace)) {
+                    lifecycle.writeAttachment(attachment, inputStream);
+                }
+            }
+            System.out.println("Playwright trace saved: " + trace.toAbsolutePath());
+        } catch (IOException | RuntimeException e) {
+            System.out.println("Could not save Playwright trace " + trace + ": " + e);
+        }
+    }
+}
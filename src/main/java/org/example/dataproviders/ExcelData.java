@@ -0,0 +1,47 @@
+package org.example.dataproviders;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares the Excel sheet a test method is fed from by {@link ExcelDataProvider}.
+ *
+ * Usage Example:
+ * <pre>
+ * &#64;Test(dataProvider = ExcelDataProvider.PARALLEL, dataProviderClass = ExcelDataProvider.class)
+ * &#64;ExcelData(file = "testdata/search-data.xlsx", sheet = "Searches", filterColumn = "Enabled", filterValue = "true")
+ * public void search(Map&lt;String, String&gt; row) { ... }
+ *
+ * &#64;Test(dataProvider = ExcelDataProvider.SEQUENTIAL, dataProviderClass = ExcelDataProvider.class)
+ * &#64;ExcelData(file = "testdata/search-data.xlsx", sheet = "Searches", columns = {"Query", "Category"})
+ * public void search(String query, String category) { ... }
+ * </pre>
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface ExcelData {
+
+    /**
+     * Workbook path; a file system path or, if no such file exists, a classpath resource
+     */
+    String file();
+
+    /**
+     * Sheet name (first row is the header)
+     */
+    String sheet();
+
+    /**
+     * Only rows whose value in this column equals filterValue (ignoring case) are used
+     */
+    String filterColumn() default "";
+
+    String filterValue() default "";
+
+    /**
+     * Columns passed as String parameters in this order; by default the whole row is passed as a Map
+     */
+    String[] columns() default {};
+}
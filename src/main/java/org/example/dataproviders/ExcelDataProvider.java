@@ -0,0 +1,217 @@
+package org.example.dataproviders;
+
+import org.example.utils.ConfigReaderUtils;
+import org.example.utils.ExcelReaderUtils;
+import org.testng.annotations.DataProvider;
+
+import java.io.File;
+import java.lang.reflect.Method;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Paths;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TestNG data providers that read the sheet declared by {@link ExcelData} row by row.
+ *
+ * Rows are pulled from {@link ExcelReaderUtils#rowIterator()} only when TestNG asks for the next
+ * invocation, so a large sheet neither delays the start of the suite nor has to fit in the heap.
+ * With the parallel provider TestNG hands every row to a worker thread as soon as it is read; when
+ * {@link org.example.listeners.ExcelDataListener} is registered, at most
+ * excel.dataprovider.max.rows.in.flight rows are read ahead of the tests that finished.
+ */
+public class ExcelDataProvider {
+    public static final String SEQUENTIAL = "excel";
+    public static final String PARALLEL = "excelParallel";
+
+    private static final Set<ExcelRowIterator> OPEN_ITERATORS = ConcurrentHashMap.newKeySet();
+    private static final Map<Method, Semaphore> ROWS_IN_FLIGHT = new ConcurrentHashMap<>();
+    private static volatile boolean backpressureEnabled;
+
+    @DataProvider(name = SEQUENTIAL)
+    public static Iterator<Object[]> excel(Method method) {
+        return open(method, false);
+    }
+
+    @DataProvider(name = PARALLEL, parallel = true)
+    public static Iterator<Object[]> excelParallel(Method method) {
+        return open(method, true);
+    }
+
+    /**
+     * Called by ExcelDataListener when a test invocation finished, so the parallel provider can read the next row
+     * @param testMethod The test method of the finished invocation
+     */
+    public static void rowFinished(Method testMethod) {
+        Semaphore permits = ROWS_IN_FLIGHT.get(testMethod);
+        if (permits != null) {
+            permits.release();
+        }
+    }
+
+    /**
+     * Turn read-ahead limiting on or off; only safe while the listener reports finished rows
+     */
+    public static void setBackpressureEnabled(boolean enabled) {
+        backpressureEnabled = enabled;
+    }
+
+    /**
+     * Close the readers of providers TestNG did not iterate to the end
+     */
+    public static void closeAll() {
+        for (ExcelRowIterator iterator : OPEN_ITERATORS) {
+            iterator.close();
+        }
+        ROWS_IN_FLIGHT.clear();
+    }
+
+    private static Iterator<Object[]> open(Method method, boolean parallel) {
+        ExcelData excelData = method.getAnnotation(ExcelData.class);
+        if (excelData == null) {
+            throw new RuntimeException("Test method " + method.getName() + " has no @ExcelData annotation");
+        }
+        ExcelReaderUtils excelReader = new ExcelReaderUtils(resolve(excelData.file()));
+        try {
+            excelReader.setSheet(excelData.sheet());
+            Semaphore permits = null;
+            if (parallel && backpressureEnabled) {
+                permits = new Semaphore(ConfigReaderUtils.getInstance().getExcelDataProviderMaxRowsInFlight());
+                ROWS_IN_FLIGHT.put(method, permits);
+            }
+            ExcelRowIterator iterator = new ExcelRowIterator(excelReader, excelData, permits);
+            OPEN_ITERATORS.add(iterator);
+            return iterator;
+        } catch (RuntimeException e) {
+            excelReader.close();
+            throw e;
+        }
+    }
+
+    private static String resolve(String file) {
+        if (new File(file).exists()) {
+            return file;
+        }
+        URL resource = ExcelDataProvider.class.getClassLoader().getResource(file);
+        if (resource == null) {
+            throw new RuntimeException("Excel file not found on disk or in classpath: " + file);
+        }
+        try {
+            return Paths.get(resource.toURI()).toString();
+        } catch (URISyntaxException e) {
+            throw new RuntimeException("Invalid Excel file location: " + resource, e);
+        }
+    }
+
+    /**
+     * Filters and converts rows on demand; closes the reader once the sheet is exhausted
+     */
+    private static class ExcelRowIterator implements Iterator<Object[]> {
+        private static final long PERMIT_WAIT_SECONDS = 60;
+
+        private final ExcelReaderUtils excelReader;
+        private final ExcelReaderUtils.RowIterator rows;
+        private final ExcelData excelData;
+        private final Semaphore permits;
+        private Object[] next;
+        private boolean closed;
+
+        ExcelRowIterator(ExcelReaderUtils excelReader, ExcelData excelData, Semaphore permits) {
+            this.excelReader = excelReader;
+            this.rows = excelReader.rowIterator();
+            this.excelData = excelData;
+            this.permits = permits;
+        }
+
+        @Override
+        public synchronized boolean hasNext() {
+            if (next != null) {
+                return true;
+            }
+            if (closed) {
+                return false;
+            }
+            try {
+                while (rows.hasNext()) {
+                    Map<String, String> row = rows.next();
+                    if (matchesFilter(row)) {
+                        next = toParameters(row);
+                        return true;
+                    }
+                }
+            } catch (RuntimeException e) {
+                close();
+                throw e;
+            }
+            close();
+            return false;
+        }
+
+        @Override
+        public synchronized Object[] next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("No more rows in sheet '" + excelData.sheet() + "'");
+            }
+            Object[] parameters = next;
+            next = null;
+            awaitPermit();
+            return parameters;
+        }
+
+        synchronized void close() {
+            if (!closed) {
+                closed = true;
+                OPEN_ITERATORS.remove(this);
+                rows.close();
+                excelReader.close();
+            }
+        }
+
+        /**
+         * Block until one of the rows handed out before has finished its test
+         */
+        private void awaitPermit() {
+            if (permits == null) {
+                return;
+            }
+            try {
+                if (!permits.tryAcquire(PERMIT_WAIT_SECONDS, TimeUnit.SECONDS)) {
+                    System.out.println("No test finished within " + PERMIT_WAIT_SECONDS
+                            + "s, reading the next row of '" + excelData.sheet() + "' anyway");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        private boolean matchesFilter(Map<String, String> row) {
+            if (excelData.filterColumn().isEmpty()) {
+                return true;
+            }
+            String value = row.get(excelData.filterColumn());
+            return value != null && value.equalsIgnoreCase(excelData.filterValue());
+        }
+
+        private Object[] toParameters(Map<String, String> row) {
+            String[] columns = excelData.columns();
+            if (columns.length == 0) {
+                return new Object[] {row};
+            }
+            Object[] parameters = new Object[columns.length];
+            for (int i = 0; i < columns.length; i++) {
+                String value = row.get(columns[i]);
+                if (value == null) {
+                    throw new RuntimeException("Column '" + columns[i] + "' not found in sheet '" + excelData.sheet() + "'");
+                }
+                parameters[i] = value;
+            }
+            return parameters;
+        }
+    }
+}
@@ -0,0 +1,268 @@
+package org.example.fixtures;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.example.utils.ConfigReaderUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+/**
+ * Embedded HTTP server for the static site snapshots under the classpath folder fixture.server.root
+ * (src/test/resources/fixtures), with injectable latency, bandwidth limits and failures.
+ *
+ * Every response waits fixture.server.latency.ms (plus up to fixture.server.latency.jitter.ms) before
+ * the headers are sent, and the body is paced to fixture.server.bandwidth.kbps when that is above 0.
+ * With probability fixture.server.failure.rate a request to a path matching fixture.server.failure.paths
+ * gets fixture.server.failure.status instead, or its connection is dropped when the status is 0.
+ *
+ * Usage Example:
+ * <pre>
+ * FixtureServer server = FixtureServer.fromConfig().start();
+ * page.navigate(server.url("amazon/index.html"));
+ * server.stop();
+ * </pre>
+ */
+public class FixtureServer {
+    private static final Map<String, String> CONTENT_TYPES = Map.of(
+            "html", "text/html; charset=utf-8",
+            "css", "text/css; charset=utf-8",
+            "js", "application/javascript; charset=utf-8",
+            "json", "application/json; charset=utf-8",
+            "svg", "image/svg+xml",
+            "png", "image/png",
+            "jpg", "image/jpeg",
+            "gif", "image/gif",
+            "ico", "image/x-icon");
+    private static final int CHUNKS_PER_SECOND = 20;
+
+    private final String resourceRoot;
+    private final int port;
+    private final int latencyMillis;
+    private final int latencyJitterMillis;
+    private final int bandwidthKbps;
+    private final double failureRate;
+    private final int failureStatus;
+    private final List<Pattern> failurePaths;
+
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong failuresInjected = new AtomicLong();
+    private final AtomicLong bytesServed = new AtomicLong();
+
+    private HttpServer server;
+    private ExecutorService executor;
+
+    private FixtureServer(ConfigReaderUtils config) {
+        this.resourceRoot = config.getFixtureServerRoot();
+        this.port = config.getFixtureServerPort();
+        this.latencyMillis = config.getFixtureServerLatency();
+        this.latencyJitterMillis = config.getFixtureServerLatencyJitter();
+        this.bandwidthKbps = config.getFixtureServerBandwidthKbps();
+        this.failureRate = config.getFixtureServerFailureRate();
+        this.failureStatus = config.getFixtureServerFailureStatus();
+        this.failurePaths = new ArrayList<>();
+        for (String glob : config.getFixtureServerFailurePaths()) {
+            List<String> literals = new ArrayList<>();
+            for (String literal : glob.split("\\*", -1)) {
+                literals.add(Pattern.quote(literal));
+            }
+            failurePaths.add(Pattern.compile(String.join(".*", literals)));
+        }
+    }
+
+    /**
+     * Create a server with the fixture.server.* settings from config.properties
+     */
+    public static FixtureServer fromConfig() {
+        return new FixtureServer(ConfigReaderUtils.getInstance());
+    }
+
+    /**
+     * Start listening on the loopback interface (fixture.server.port, 0 for any free port)
+     */
+    public synchronized FixtureServer start() {
+        if (server != null) {
+            return this;
+        }
+        try {
+            server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        } catch (IOException e) {
+            throw new RuntimeException("Could not start fixture server on port " + port, e);
+        }
+        AtomicInteger threadNumber = new AtomicInteger();
+        executor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "fixture-server-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.setExecutor(executor);
+        server.createContext("/", this::handle);
+        server.start();
+        System.out.println("Fixture server started at " + getBaseUrl() + " (latency " + latencyMillis + " ms, "
+                + (bandwidthKbps > 0 ? bandwidthKbps + " KB/s" : "unlimited bandwidth")
+                + ", failure rate " + failureRate + ")");
+        return this;
+    }
+
+    /**
+     * Stop the server and print what it served
+     */
+    public synchronized void stop() {
+        if (server == null) {
+            return;
+        }
+        server.stop(0);
+        executor.shutdownNow();
+        server = null;
+        System.out.println("Fixture server stopped: " + requests.get() + " requests, "
+                + failuresInjected.get() + " failures injected, " + bytesServed.get() / 1024 + " KB served");
+    }
+
+    /**
+     * Base URL without trailing slash, e.g. http://127.0.0.1:54321
+     */
+    public String getBaseUrl() {
+        if (server == null) {
+            throw new IllegalStateException("Fixture server is not running");
+        }
+        return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort();
+    }
+
+    /**
+     * URL of a fixture page, e.g. url("amazon/index.html")
+     */
+    public String url(String fixturePath) {
+        return getBaseUrl() + "/" + fixturePath;
+    }
+
+    public long getRequestCount() {
+        return requests.get();
+    }
+
+    public long getFailuresInjected() {
+        return failuresInjected.get();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        requests.incrementAndGet();
+        try {
+            String path = exchange.getRequestURI().getPath();
+            sleep(latencyMillis + (latencyJitterMillis > 0 ? ThreadLocalRandom.current().nextInt(latencyJitterMillis + 1) : 0));
+
+            if (shouldFail(path)) {
+                failuresInjected.incrementAndGet();
+                if (failureStatus > 0) {
+                    send(exchange, failureStatus, "text/plain; charset=utf-8",
+                            ("Injected failure for " + path).getBytes());
+                }
+                // Status 0: drop the connection without a response
+                return;
+            }
+
+            byte[] body = readResource(path);
+            if (body == null) {
+                send(exchange, 404, "text/plain; charset=utf-8", ("No fixture for " + path).getBytes());
+                return;
+            }
+            send(exchange, 200, contentType(path), body);
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private boolean shouldFail(String path) {
+        if (failureRate <= 0 || ThreadLocalRandom.current().nextDouble() >= failureRate) {
+            return false;
+        }
+        if (failurePaths.isEmpty()) {
+            return true;
+        }
+        for (Pattern pattern : failurePaths) {
+            if (pattern.matcher(path).matches()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private byte[] readResource(String path) throws IOException {
+        String relative = path.startsWith("/") ? path.substring(1) : path;
+        if (relative.isEmpty() || relative.endsWith("/")) {
+            relative += "index.html";
+        }
+        if (relative.contains("..")) {
+            return null;
+        }
+        URL resource = FixtureServer.class.getClassLoader().getResource(resourceRoot + "/" + relative);
+        if (resource == null) {
+            return null;
+        }
+        try (InputStream inputStream = resource.openStream()) {
+            return inputStream.readAllBytes();
+        }
+    }
+
+    private void send(HttpExchange exchange, int status, String contentType, byte[] body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", contentType);
+        exchange.getResponseHeaders().set("Cache-Control", "no-store");
+        boolean head = "HEAD".equalsIgnoreCase(exchange.getRequestMethod());
+        exchange.sendResponseHeaders(status, head ? -1 : body.length);
+        if (head) {
+            return;
+        }
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            if (bandwidthKbps <= 0) {
+                outputStream.write(body);
+            } else {
+                writePaced(outputStream, body);
+            }
+        }
+        bytesServed.addAndGet(body.length);
+    }
+
+    /**
+     * Write the body in chunks so the transfer rate stays at bandwidthKbps
+     */
+    private void writePaced(OutputStream outputStream, byte[] body) throws IOException {
+        int chunkSize = Math.max(1, bandwidthKbps * 1024 / CHUNKS_PER_SECOND);
+        long start = System.nanoTime();
+        for (int offset = 0, chunk = 0; offset < body.length; offset += chunkSize, chunk++) {
+            long due = start + TimeUnit.SECONDS.toNanos(chunk) / CHUNKS_PER_SECOND;
+            sleep(TimeUnit.NANOSECONDS.toMillis(due - System.nanoTime()));
+            outputStream.write(body, offset, Math.min(chunkSize, body.length - offset));
+            outputStream.flush();
+        }
+    }
+
+    private static String contentType(String path) {
+        int dot = path.lastIndexOf('.');
+        String extension = dot >= 0 ? path.substring(dot + 1).toLowerCase(Locale.ROOT) : "html";
+        return CONTENT_TYPES.getOrDefault(extension, "application/octet-stream");
+    }
+
+    private static void sleep(long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package org.example.listeners;
+
+import org.example.browser.ArtifactRecorder;
+import org.example.browser.BrowserPool;
+import org.example.browser.TraceRecorder;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+
+/**
+ * Shuts down the shared {@link BrowserPool} once the suite is finished,
+ * so no Chromium or Playwright driver process outlives the run.
+ * Failure traces, screenshots and videos still being written are awaited first.
+ */
+public class BrowserPoolListener implements ISuiteListener {
+    private static final long TRACE_WRITE_TIMEOUT_MILLIS = 60_000;
+
+    @Override
+    public void onFinish(ISuite suite) {
+        TraceRecorder.awaitPending(TRACE_WRITE_TIMEOUT_MILLIS);
+        ArtifactRecorder.awaitPending(TRACE_WRITE_TIMEOUT_MILLIS);
+        BrowserPool.shutdownInstance();
+    }
+}
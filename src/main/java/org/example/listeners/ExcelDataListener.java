@@ -0,0 +1,49 @@
+package org.example.listeners;
+
+import org.example.dataproviders.ExcelDataProvider;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestContext;
+import org.testng.ITestListener;
+import org.testng.ITestResult;
+
+/**
+ * Reports finished test invocations to {@link ExcelDataProvider}, so its parallel provider only reads
+ * excel.dataprovider.max.rows.in.flight rows ahead of the tests, and closes readers left open at suite end.
+ */
+public class ExcelDataListener implements ITestListener, ISuiteListener {
+
+    @Override
+    public void onStart(ITestContext context) {
+        ExcelDataProvider.setBackpressureEnabled(true);
+    }
+
+    @Override
+    public void onTestSuccess(ITestResult result) {
+        rowFinished(result);
+    }
+
+    @Override
+    public void onTestFailure(ITestResult result) {
+        rowFinished(result);
+    }
+
+    @Override
+    public void onTestSkipped(ITestResult result) {
+        rowFinished(result);
+    }
+
+    @Override
+    public void onTestFailedButWithinSuccessPercentage(ITestResult result) {
+        rowFinished(result);
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        ExcelDataProvider.closeAll();
+    }
+
+    private static void rowFinished(ITestResult result) {
+        ExcelDataProvider.rowFinished(result.getMethod().getConstructorOrMethod().getMethod());
+    }
+}
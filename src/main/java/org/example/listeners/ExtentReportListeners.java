@@ -1,54 +1,123 @@
 package org.example.listeners;
 
-import com.aventstack.extentreports.ExtentReports;
-import com.aventstack.extentreports.ExtentTest;
 import com.aventstack.extentreports.Status;
+import com.aventstack.extentreports.markuputils.MarkupHelper;
 import lombok.extern.slf4j.Slf4j;
+import org.example.metrics.StepMetrics;
+import org.example.metrics.StepStats;
 import org.example.utils.ExtentManager;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
 import org.testng.ITestContext;
 import org.testng.ITestListener;
 import org.testng.ITestResult;
 
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Extent report entries per test, published to the background report writer of {@link ExtentManager};
+ * at the end of the suite the step latencies collected by {@link StepMetrics} are exported and added
+ * to the report as a summary table, and the report is written out
+ */
 @Slf4j
-public class ExtentReportListeners implements ITestListener {
+public class ExtentReportListeners implements ITestListener, ISuiteListener {
 
-    private static ExtentReports extent = ExtentManager.getExtentReports();
-    private static ThreadLocal<ExtentTest> extentTest = new ThreadLocal<>();
+    private static ThreadLocal<Long> extentTest = new ThreadLocal<>();
 
     @Override
     public void onTestStart(ITestResult result) {
-        ExtentTest test = extent.createTest(result.getMethod().getMethodName());
-        extentTest.set(test);
+        extentTest.set(ExtentManager.startTest(result.getMethod().getMethodName()));
     }
 
     @Override
     public void onTestSuccess(ITestResult result) {
-        extentTest.get().pass("Test passed");
+        recordDuration(result);
+        finish(Status.PASS, "Test passed");
     }
 
     @Override
     public void onTestFailure(ITestResult result) {
-        extentTest.get().fail("Test failed");
+        recordDuration(result);
+        finish(Status.FAIL, "Test failed");
     }
 
     @Override
     public void onTestSkipped(ITestResult result) {
-        extentTest.get().skip("Test skipped");
+        if (result.wasRetried()) {
+            // A failed attempt that TestRetryAnalyzer reruns
+            recordDuration(result);
+            finish(Status.WARNING, "Test failed, rerun by retry analyzer");
+            return;
+        }
+        finish(Status.SKIP, "Test skipped");
     }
 
     @Override
     public void onTestFailedButWithinSuccessPercentage(ITestResult result) {
-        extentTest.get().warning("Test failed but within success percentage");
+        recordDuration(result);
+        finish(Status.WARNING, "Test failed but within success percentage");
     }
 
     @Override
     public void onFinish(ITestContext context) {
-        extent.flush();
+        ExtentManager.flush();
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        addStepLatencySummary();
+        ExtentManager.shutdown();
+    }
+
+    private static void addStepLatencySummary() {
+        List<StepStats> stats = StepMetrics.snapshot();
+        if (!StepMetrics.isEnabled() || stats.isEmpty()) {
+            return;
+        }
+        Path dir = StepMetrics.export();
+        System.out.println("Step latency metrics written to " + dir.toAbsolutePath());
+
+        String[][] table = new String[stats.size() + 1][];
+        table[0] = new String[]{"Step", "Count", "Total (ms)", "p50 (ms)", "p95 (ms)", "p99 (ms)", "Max (ms)"};
+        for (int i = 0; i < stats.size(); i++) {
+            StepStats step = stats.get(i);
+            table[i + 1] = new String[]{step.getStep(), String.valueOf(step.getCount()),
+                    millis(step.getTotalMicros()), millis(step.getP50Micros()), millis(step.getP95Micros()),
+                    millis(step.getP99Micros()), millis(step.getMaxMicros())};
+        }
+        ExtentManager.addEntry("Step Latency Summary", Status.INFO, MarkupHelper.createTable(table).getMarkup());
+    }
+
+    /**
+     * Log the outcome and hand the test to the report writer; logs added afterwards
+     * (e.g. from @AfterMethod) are still attached to it
+     */
+    private static void finish(Status status, String details) {
+        Long testId = extentTest.get();
+        if (testId != null) {
+            ExtentManager.log(testId, status, details);
+            ExtentManager.endTest(testId);
+        }
+    }
+
+    private static void recordDuration(ITestResult result) {
+        StepMetrics.record("test: " + result.getMethod().getMethodName(),
+                TimeUnit.MILLISECONDS.toNanos(result.getEndMillis() - result.getStartMillis()));
+    }
+
+    private static String millis(long micros) {
+        return String.format("%.1f", micros / 1000.0);
     }
 
     public static void addStep(String stepDescription, String status) {
-        ExtentTest test = extentTest.get();
-        test.log(Status.valueOf(status), stepDescription);
+        Long testId = extentTest.get();
+        if (testId == null) {
+            // Listener not registered for this run
+            return;
+        }
+        ExtentManager.log(testId, Status.valueOf(status), stepDescription);
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,53 @@
+package org.example.listeners;
+
+import org.example.fixtures.FixtureServer;
+import org.example.utils.ConfigReaderUtils;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Starts the {@link FixtureServer} before the suite when fixture.server.enabled is true and points
+ * google.url and amazon.url at its snapshots, so the page objects run against local pages with
+ * controlled latency and failures instead of the live sites. The previous values are restored and
+ * the server is stopped when the suite is finished.
+ */
+public class FixtureServerListener implements ISuiteListener {
+    private static final Map<String, String> SITE_URLS = Map.of(
+            "google.url", "google/index.html",
+            "amazon.url", "amazon/index.html");
+
+    private final Map<String, String> previousValues = new LinkedHashMap<>();
+    private FixtureServer server;
+
+    @Override
+    public void onStart(ISuite suite) {
+        if (!ConfigReaderUtils.getInstance().isFixtureServerEnabled() || server != null) {
+            return;
+        }
+        server = FixtureServer.fromConfig().start();
+        for (Map.Entry<String, String> site : SITE_URLS.entrySet()) {
+            previousValues.put(site.getKey(), System.getProperty(site.getKey()));
+            System.setProperty(site.getKey(), server.url(site.getValue()));
+        }
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        if (server == null) {
+            return;
+        }
+        for (Map.Entry<String, String> previous : previousValues.entrySet()) {
+            if (previous.getValue() != null) {
+                System.setProperty(previous.getKey(), previous.getValue());
+            } else {
+                System.clearProperty(previous.getKey());
+            }
+        }
+        previousValues.clear();
+        server.stop();
+        server = null;
+    }
+}
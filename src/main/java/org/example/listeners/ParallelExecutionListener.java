@@ -0,0 +1,33 @@
+package org.example.listeners;
+
+import org.example.utils.ConfigReaderUtils;
+import org.testng.IAlterSuiteListener;
+import org.testng.xml.XmlSuite;
+
+import java.util.List;
+
+/**
+ * Applies the parallel execution mode and thread count from config to every suite,
+ * so the same testng.xml can run serially or on N threads without editing it.
+ *
+ * Usage Example:
+ * <pre>
+ * mvn test -Dparallel.mode=methods -Dparallel.thread.count=4
+ * </pre>
+ */
+public class ParallelExecutionListener implements IAlterSuiteListener {
+
+    @Override
+    public void alter(List<XmlSuite> suites) {
+        ConfigReaderUtils config = ConfigReaderUtils.getInstance();
+        XmlSuite.ParallelMode mode = XmlSuite.ParallelMode.getValidParallel(config.getParallelMode());
+        int threadCount = config.getParallelThreadCount();
+
+        for (XmlSuite suite : suites) {
+            suite.setParallel(mode);
+            suite.setThreadCount(threadCount);
+            suite.setDataProviderThreadCount(threadCount);
+        }
+        System.out.println("Parallel mode: " + mode + ", threads: " + threadCount);
+    }
+}
@@ -0,0 +1,38 @@
+package org.example.listeners;
+
+import org.example.pages.support.StepRetry;
+import org.example.utils.ConfigReaderUtils;
+import org.testng.IAnnotationTransformer;
+import org.testng.ITestListener;
+import org.testng.ITestResult;
+import org.testng.annotations.ITestAnnotation;
+import org.testng.internal.annotations.DisabledRetryAnalyzer;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+
+/**
+ * Gives every test the step retry budget of {@link StepRetry} (retry.test.budget) and, with
+ * retry.test.max above 0, installs {@link TestRetryAnalyzer} on tests without their own retry analyzer.
+ *
+ * Usage Example:
+ * <pre>
+ * mvn test -Dretry.step.max=2 -Dretry.test.max=1
+ * </pre>
+ */
+public class RetryListener implements IAnnotationTransformer, ITestListener {
+
+    @Override
+    public void transform(ITestAnnotation annotation, Class testClass, Constructor testConstructor, Method testMethod) {
+        Class<?> analyzer = annotation.getRetryAnalyzerClass();
+        boolean hasOwnAnalyzer = analyzer != null && analyzer != DisabledRetryAnalyzer.class;
+        if (!hasOwnAnalyzer && ConfigReaderUtils.getInstance().getRetryTestMax() > 0) {
+            annotation.setRetryAnalyzer(TestRetryAnalyzer.class);
+        }
+    }
+
+    @Override
+    public void onTestStart(ITestResult result) {
+        StepRetry.startTest();
+    }
+}
@@ -0,0 +1,39 @@
+package org.example.listeners;
+
+import org.example.scheduling.TestHistory;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestListener;
+import org.testng.ITestResult;
+
+/**
+ * Records the duration and outcome of every finished test in {@link TestHistory} and writes the
+ * history at the end of the suite, so the next run can plan balanced shards and order its tests.
+ */
+public class TestHistoryListener implements ITestListener, ISuiteListener {
+
+    @Override
+    public void onTestSuccess(ITestResult result) {
+        record(result, false);
+    }
+
+    @Override
+    public void onTestFailure(ITestResult result) {
+        record(result, true);
+    }
+
+    @Override
+    public void onTestFailedButWithinSuccessPercentage(ITestResult result) {
+        record(result, false);
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        TestHistory.getInstance().save();
+    }
+
+    private void record(ITestResult result, boolean failed) {
+        TestHistory.getInstance().record(TestHistory.key(result.getMethod()),
+                result.getEndMillis() - result.getStartMillis(), failed);
+    }
+}
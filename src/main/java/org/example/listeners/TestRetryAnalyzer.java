@@ -0,0 +1,37 @@
+package org.example.listeners;
+
+import org.example.metrics.StepMetrics;
+import org.example.utils.ConfigReaderUtils;
+import org.testng.IRetryAnalyzer;
+import org.testng.ITestResult;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reruns a failed test up to retry.test.max times. The rerun gets a fresh context on a browser
+ * leased from the pool, so it costs the journey itself rather than a Chromium start. The failed
+ * attempt is logged to Extent and its duration recorded as the "retry: test &lt;method&gt;" step metric;
+ * Allure shows the attempts as retries of one test.
+ */
+public class TestRetryAnalyzer implements IRetryAnalyzer {
+    private int reruns;
+
+    @Override
+    public boolean retry(ITestResult result) {
+        int maxReruns = ConfigReaderUtils.getInstance().getRetryTestMax();
+        if (reruns >= maxReruns) {
+            return false;
+        }
+        reruns++;
+        String methodName = result.getMethod().getMethodName();
+        long attemptMillis = result.getEndMillis() - result.getStartMillis();
+        StepMetrics.record("retry: test " + methodName, TimeUnit.MILLISECONDS.toNanos(attemptMillis));
+
+        Throwable cause = result.getThrowable();
+        String message = "Rerunning " + methodName + " (" + reruns + " of " + maxReruns + ") after a failed attempt of "
+                + attemptMillis + " ms" + (cause != null ? ": " + cause.getClass().getSimpleName() : "");
+        System.out.println(message);
+        ExtentReportListeners.addStep(message, "WARNING");
+        return true;
+    }
+}
@@ -0,0 +1,21 @@
+package org.example.metrics;
+
+import io.qameta.allure.listener.StepLifecycleListener;
+import io.qameta.allure.model.StepResult;
+
+/**
+ * Feeds the duration of every Allure step (Allure.step(...) and @Step methods) into
+ * {@link StepMetrics} as "allure: &lt;step name&gt;". Registered through
+ * META-INF/services/io.qameta.allure.listener.LifecycleListener.
+ */
+public class AllureStepTimingListener implements StepLifecycleListener {
+
+    @Override
+    public void afterStepStop(StepResult result) {
+        if (result.getStart() == null || result.getStop() == null || !StepMetrics.isEnabled()) {
+            return;
+        }
+        StepMetrics.record("allure: " + result.getName(),
+                (result.getStop() - result.getStart()) * 1_000_000L);
+    }
+}
@@ -0,0 +1,165 @@
+package org.example.metrics;
+
+import org.example.utils.ConfigReaderUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Run-wide latency of test steps, one {@link LatencyHistogram} per step name.
+ *
+ * Page objects time their actions through BasePage.step() ("AmazonHomePage.search"), Allure steps
+ * are timed by {@link AllureStepTimingListener} ("allure: Add product to cart") and whole tests by
+ * the Extent listener ("test: testAddMobileToCart"). At the end of the suite the numbers are written
+ * to metrics.dir as step-latency.json and step-latency.prom (Prometheus text format) and summarised
+ * in the Extent report.
+ *
+ * Usage Example:
+ * <pre>
+ * AmazonSearchResultsPage results = StepMetrics.time("AmazonHomePage.search", () -> home.search(query));
+ * </pre>
+ */
+public final class StepMetrics {
+    private static final Map<String, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+
+    private StepMetrics() {
+    }
+
+    /**
+     * Run an action and record its duration under the step name, also when it throws
+     */
+    public static <T> T time(String step, Supplier<T> action) {
+        if (!isEnabled()) {
+            return action.get();
+        }
+        long start = System.nanoTime();
+        try {
+            return action.get();
+        } finally {
+            record(step, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Record a duration measured elsewhere
+     */
+    public static void record(String step, long durationNanos) {
+        histograms.computeIfAbsent(step, name -> new LatencyHistogram()).record(durationNanos);
+    }
+
+    /**
+     * Current statistics per step, the step with the most total time first
+     */
+    public static List<StepStats> snapshot() {
+        List<StepStats> stats = new ArrayList<>();
+        histograms.forEach((step, histogram) -> stats.add(new StepStats(step, histogram)));
+        stats.sort(Comparator.comparingLong(StepStats::getTotalMicros).reversed()
+                .thenComparing(StepStats::getStep));
+        return stats;
+    }
+
+    public static void reset() {
+        histograms.clear();
+    }
+
+    /**
+     * Write step-latency.json and step-latency.prom to metrics.dir
+     * @return The directory written to
+     */
+    public static Path export() {
+        Path dir = Paths.get(ConfigReaderUtils.getInstance().getMetricsDir());
+        List<StepStats> stats = snapshot();
+        try {
+            Files.createDirectories(dir);
+            Files.writeString(dir.resolve("step-latency.json"), toJson(stats), StandardCharsets.UTF_8);
+            Files.writeString(dir.resolve("step-latency.prom"), toPrometheus(stats), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new RuntimeException("Error writing step metrics to " + dir, e);
+        }
+        return dir;
+    }
+
+    public static boolean isEnabled() {
+        return ConfigReaderUtils.getInstance().isMetricsEnabled();
+    }
+
+    static String toJson(List<StepStats> stats) {
+        StringBuilder json = new StringBuilder("{\n  \"unit\": \"ms\",\n  \"steps\": [");
+        for (int i = 0; i < stats.size(); i++) {
+            StepStats step = stats.get(i);
+            json.append(i == 0 ? "\n" : ",\n")
+                    .append("    {\"step\": \"").append(escapeJson(step.getStep())).append('"')
+                    .append(", \"count\": ").append(step.getCount())
+                    .append(", \"total\": ").append(millis(step.getTotalMicros()))
+                    .append(", \"mean\": ").append(millis(step.getMeanMicros()))
+                    .append(", \"p50\": ").append(millis(step.getP50Micros()))
+                    .append(", \"p95\": ").append(millis(step.getP95Micros()))
+                    .append(", \"p99\": ").append(millis(step.getP99Micros()))
+                    .append(", \"max\": ").append(millis(step.getMaxMicros()))
+                    .append('}');
+        }
+        return json.append(stats.isEmpty() ? "]\n}\n" : "\n  ]\n}\n").toString();
+    }
+
+    static String toPrometheus(List<StepStats> stats) {
+        StringBuilder text = new StringBuilder();
+        text.append("# HELP test_step_duration_seconds Duration of test steps\n")
+                .append("# TYPE test_step_duration_seconds summary\n");
+        for (StepStats step : stats) {
+            String label = "step=\"" + escapePrometheus(step.getStep()) + "\"";
+            text.append("test_step_duration_seconds{").append(label).append(",quantile=\"0.5\"} ")
+                    .append(seconds(step.getP50Micros())).append('\n')
+                    .append("test_step_duration_seconds{").append(label).append(",quantile=\"0.95\"} ")
+                    .append(seconds(step.getP95Micros())).append('\n')
+                    .append("test_step_duration_seconds{").append(label).append(",quantile=\"0.99\"} ")
+                    .append(seconds(step.getP99Micros())).append('\n')
+                    .append("test_step_duration_seconds_sum{").append(label).append("} ")
+                    .append(seconds(step.getTotalMicros())).append('\n')
+                    .append("test_step_duration_seconds_count{").append(label).append("} ")
+                    .append(step.getCount()).append('\n');
+        }
+        text.append("# HELP test_step_duration_max_seconds Longest duration of test steps\n")
+                .append("# TYPE test_step_duration_max_seconds gauge\n");
+        for (StepStats step : stats) {
+            text.append("test_step_duration_max_seconds{step=\"").append(escapePrometheus(step.getStep()))
+                    .append("\"} ").append(seconds(step.getMaxMicros())).append('\n');
+        }
+        return text.toString();
+    }
+
+    static String millis(long micros) {
+        return String.format(Locale.ROOT, "%.3f", micros / 1000.0);
+    }
+
+    private static String seconds(long micros) {
+        return String.format(Locale.ROOT, "%.6f", micros / 1_000_000.0);
+    }
+
+    private static String escapeJson(String value) {
+        StringBuilder escaped = new StringBuilder();
+        for (char c : value.toCharArray()) {
+            if (c == '"' || c == '\\') {
+                escaped.append('\\').append(c);
+            } else if (c < 0x20) {
+                escaped.append(String.format("\\u%04x", (int) c));
+            } else {
+                escaped.append(c);
+            }
+        }
+        return escaped.toString();
+    }
+
+    private static String escapePrometheus(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+}
@@ -0,0 +1,56 @@
+package org.example.metrics;
+
+/**
+ * Point-in-time statistics of one step, in microseconds
+ */
+public class StepStats {
+    private final String step;
+    private final long count;
+    private final long totalMicros;
+    private final long p50Micros;
+    private final long p95Micros;
+    private final long p99Micros;
+    private final long maxMicros;
+
+    StepStats(String step, LatencyHistogram histogram) {
+        this.step = step;
+        this.count = histogram.getCount();
+        this.totalMicros = histogram.getTotalMicros();
+        this.p50Micros = histogram.getPercentileMicros(50);
+        this.p95Micros = histogram.getPercentileMicros(95);
+        this.p99Micros = histogram.getPercentileMicros(99);
+        this.maxMicros = histogram.getMaxMicros();
+    }
+
+    public String getStep() {
+        return step;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getTotalMicros() {
+        return totalMicros;
+    }
+
+    public long getMeanMicros() {
+        return count > 0 ? totalMicros / count : 0;
+    }
+
+    public long getP50Micros() {
+        return p50Micros;
+    }
+
+    public long getP95Micros() {
+        return p95Micros;
+    }
+
+    public long getP99Micros() {
+        return p99Micros;
+    }
+
+    public long getMaxMicros() {
+        return maxMicros;
+    }
+}
@@ -0,0 +1,94 @@
+package org.example.network;
+
+import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.options.HarMode;
+import com.microsoft.playwright.options.HarNotFound;
+import org.example.utils.ConfigReaderUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Record and replay of a session's network traffic as a HAR archive (har.mode in config.properties).
+ *
+ * <ul>
+ *   <li>off - live network</li>
+ *   <li>record - all traffic of the session is written to har.dir/&lt;session name&gt;.har.zip when the context closes</li>
+ *   <li>replay - requests are answered from that archive through Playwright routing; unmatched requests go to
+ *       the network when har.replay.fallback.network is true and are aborted otherwise</li>
+ * </ul>
+ *
+ * Usage Example:
+ * <pre>
+ * mvn test -Dhar.mode=record    # once, against the live sites
+ * mvn test -Dhar.mode=replay    # offline, at local-disk speed
+ * </pre>
+ */
+public final class HarArchive {
+
+    private HarArchive() {
+    }
+
+    /**
+     * Context options for a new session: HAR recording in record mode, defaults otherwise
+     * @param sessionName Name of the session (e.g. "PlayWrightTest.testGoogleTitle"); null disables HAR handling
+     */
+    public static Browser.NewContextOptions contextOptions(String sessionName) {
+        Browser.NewContextOptions options = new Browser.NewContextOptions();
+        ConfigReaderUtils config = ConfigReaderUtils.getInstance();
+        if (sessionName != null && "record".equalsIgnoreCase(config.getHarMode())) {
+            Path archive = archivePath(sessionName);
+            try {
+                Files.createDirectories(archive.getParent());
+            } catch (IOException e) {
+                throw new RuntimeException("Could not create HAR directory " + archive.getParent(), e);
+            }
+            options.setRecordHarPath(archive).setRecordHarMode(HarMode.MINIMAL);
+            String urlFilter = config.getHarUrlFilter();
+            if (!urlFilter.isEmpty()) {
+                options.setRecordHarUrlFilter(urlFilter);
+            }
+            System.out.println("Recording HAR: " + archive);
+        }
+        return options;
+    }
+
+    /**
+     * In replay mode, serve the session's requests from its archive. Call after other routes are installed,
+     * so the archive is consulted first and unmatched requests fall back to them.
+     */
+    public static void attach(BrowserContext context, String sessionName) {
+        ConfigReaderUtils config = ConfigReaderUtils.getInstance();
+        if (sessionName == null || !"replay".equalsIgnoreCase(config.getHarMode())) {
+            return;
+        }
+        Path archive = archivePath(sessionName);
+        boolean fallbackToNetwork = config.isHarReplayFallbackToNetwork();
+        if (!Files.exists(archive)) {
+            if (!fallbackToNetwork) {
+                throw new RuntimeException("No HAR recording for session '" + sessionName + "' at " + archive
+                        + ". Please run it once with -Dhar.mode=record.");
+            }
+            System.out.println("No HAR recording at " + archive + ", using the live network");
+            return;
+        }
+        BrowserContext.RouteFromHAROptions options = new BrowserContext.RouteFromHAROptions()
+                .setNotFound(fallbackToNetwork ? HarNotFound.FALLBACK : HarNotFound.ABORT);
+        String urlFilter = config.getHarUrlFilter();
+        if (!urlFilter.isEmpty()) {
+            options.setUrl(urlFilter);
+        }
+        context.routeFromHAR(archive, options);
+    }
+
+    /**
+     * Path of a session's archive: har.dir/&lt;session name&gt;.har.zip
+     */
+    public static Path archivePath(String sessionName) {
+        String fileName = sessionName.replaceAll("[^A-Za-z0-9._-]", "_") + ".har.zip";
+        return Paths.get(ConfigReaderUtils.getInstance().getHarDir()).resolve(fileName);
+    }
+}
@@ -0,0 +1,128 @@
+package org.example.network;
+
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.Request;
+import com.microsoft.playwright.Response;
+import com.microsoft.playwright.Route;
+
+import java.util.Base64;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Request routing layer on a BrowserContext that drops requests the tests do not need
+ * (images, fonts, ads, analytics beacons) according to a {@link RequestFilterPolicy}.
+ *
+ * Blocked images are answered with a 1x1 GIF instead of a network error, so image-only links keep a
+ * layout box and stay clickable; everything else blocked is aborted. Allowed requests fall back to
+ * the next route handler (or the network). Page objects switch the policy of their context to the
+ * overrides of the page object a navigation leads to before they navigate, see
+ * {@link #usePageObject(Page, Class)}.
+ *
+ * Usage Example:
+ * <pre>
+ * RequestFilter filter = RequestFilter.install(context);
+ * ...
+ * System.out.println(filter.getStats());
+ * </pre>
+ */
+public class RequestFilter {
+    private static final Map<BrowserContext, RequestFilter> filters = new ConcurrentHashMap<>();
+    private static final RequestFilterStats totals = new RequestFilterStats();
+    private static final byte[] PLACEHOLDER_GIF =
+            Base64.getDecoder().decode("R0lGODlhAQABAIAAAAAAAP///yH5BAEAAAAALAAAAAABAAEAAAIBRAA7");
+
+    private final RequestFilterStats stats = new RequestFilterStats();
+    private final Set<Request> placeholderRequests = ConcurrentHashMap.newKeySet();
+    private volatile RequestFilterPolicy policy = RequestFilterPolicy.defaultPolicy();
+
+    private RequestFilter() {
+    }
+
+    /**
+     * Route all requests of a context through a new filter with the default policy
+     */
+    public static RequestFilter install(BrowserContext context) {
+        RequestFilter filter = new RequestFilter();
+        filters.put(context, filter);
+        context.route("**/*", filter::handle);
+        context.onResponse(filter::recordResponse);
+        context.onClose(filters::remove);
+        return filter;
+    }
+
+    /**
+     * Switch the filter of the page's context (if one is installed) to the policy of a page object.
+     * Applies to requests made from then on.
+     */
+    public static void usePageObject(Page page, Class<?> pageObject) {
+        RequestFilter filter = filters.get(page.context());
+        if (filter != null) {
+            filter.policy = RequestFilterPolicy.forPageObject(pageObject.getSimpleName());
+        }
+    }
+
+    /**
+     * Counts of all filters of the run
+     */
+    public static RequestFilterStats getTotals() {
+        return totals;
+    }
+
+    /**
+     * Counts of this filter (i.e. of one test's context)
+     */
+    public RequestFilterStats getStats() {
+        return stats;
+    }
+
+    /**
+     * Name of the active policy ("default" or a page object name)
+     */
+    public String getPolicyName() {
+        return policy.getName();
+    }
+
+    private void handle(Route route) {
+        Request request = route.request();
+        String resourceType = request.resourceType();
+        if (!policy.shouldBlock(resourceType, request.url())) {
+            route.fallback();
+            return;
+        }
+        stats.recordBlocked(resourceType);
+        totals.recordBlocked(resourceType);
+        if ("image".equals(resourceType)) {
+            placeholderRequests.add(request);
+            route.fulfill(new Route.FulfillOptions()
+                    .setStatus(200)
+                    .setContentType("image/gif")
+                    .setBodyBytes(PLACEHOLDER_GIF));
+        } else {
+            route.abort("blockedbyclient");
+        }
+    }
+
+    private void recordResponse(Response response) {
+        if (placeholderRequests.remove(response.request()) || response.url().startsWith("data:")) {
+            return;
+        }
+        String resourceType = response.request().resourceType();
+        long contentLength = parseLength(response.headers().get("content-length"));
+        stats.recordAllowed(resourceType, contentLength);
+        totals.recordAllowed(resourceType, contentLength);
+    }
+
+    private static long parseLength(String contentLength) {
+        if (contentLength == null) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(contentLength.trim());
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+}
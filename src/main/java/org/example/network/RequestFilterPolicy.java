@@ -0,0 +1,106 @@
+package org.example.network;
+
+import org.example.utils.ConfigReaderUtils;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Block/allow rules for browser requests, read from the network.* properties in config.properties.
+ *
+ * A request is blocked when its resource type is in network.block.resource.types or its URL matches
+ * network.block.url.patterns, unless the URL matches network.allow.url.patterns. URL patterns are
+ * globs matched against the full URL, where {@code *} matches any characters.
+ *
+ * Every key can be overridden for one page object by inserting its simple class name, e.g.
+ * {@code network.AmazonProductPage.block.resource.types=media,font}; an empty value clears the list.
+ *
+ * Policies are looked up when a context is created and when a page object is opened. Every lookup reads
+ * the current configuration (hot reload, -D overrides); the compiled patterns are reused while the
+ * rules of a page object stay the same.
+ */
+public class RequestFilterPolicy {
+    private static final Map<String, RequestFilterPolicy> policies = new ConcurrentHashMap<>();
+    private static final String DEFAULT_POLICY = "";
+
+    private final String name;
+    private final List<List<String>> rules;
+    private final Set<String> blockedResourceTypes;
+    private final List<Pattern> blockedUrls;
+    private final List<Pattern> allowedUrls;
+
+    private RequestFilterPolicy(String name, List<List<String>> rules) {
+        this.name = name.isEmpty() ? "default" : name;
+        this.rules = rules;
+        this.blockedResourceTypes = new HashSet<>(rules.get(0));
+        this.blockedUrls = globs(rules.get(1));
+        this.allowedUrls = globs(rules.get(2));
+    }
+
+    /**
+     * Get the suite-wide default policy
+     */
+    public static RequestFilterPolicy defaultPolicy() {
+        return forPageObject(DEFAULT_POLICY);
+    }
+
+    /**
+     * Get the policy of a page object (the default policy plus its overrides)
+     * @param pageObject Simple class name of the page object, e.g. "AmazonProductPage"
+     */
+    public static RequestFilterPolicy forPageObject(String pageObject) {
+        List<List<String>> rules = readRules(pageObject, ConfigReaderUtils.getInstance());
+        return policies.compute(pageObject, (name, cached) ->
+                cached != null && cached.rules.equals(rules) ? cached : new RequestFilterPolicy(name, rules));
+    }
+
+    /**
+     * Current block.resource.types, block.url.patterns and allow.url.patterns of a page object
+     */
+    private static List<List<String>> readRules(String name, ConfigReaderUtils config) {
+        String pageObject = name.isEmpty() ? null : name;
+        return List.of(config.getNetworkFilterList(pageObject, "block.resource.types"),
+                config.getNetworkFilterList(pageObject, "block.url.patterns"),
+                config.getNetworkFilterList(pageObject, "allow.url.patterns"));
+    }
+
+    /**
+     * Whether a request should be blocked
+     * @param resourceType Playwright resource type, e.g. "image", "font", "script"
+     * @param url Full request URL
+     */
+    public boolean shouldBlock(String resourceType, String url) {
+        boolean blocked = blockedResourceTypes.contains(resourceType) || matchesAny(blockedUrls, url);
+        return blocked && !matchesAny(allowedUrls, url);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    private static boolean matchesAny(List<Pattern> patterns, String url) {
+        for (Pattern pattern : patterns) {
+            if (pattern.matcher(url).matches()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static List<Pattern> globs(List<String> globs) {
+        List<Pattern> patterns = new ArrayList<>();
+        for (String glob : globs) {
+            List<String> literals = new ArrayList<>();
+            for (String literal : glob.split("\\*", -1)) {
+                literals.add(Pattern.quote(literal));
+            }
+            patterns.add(Pattern.compile(String.join(".*", literals)));
+        }
+        return patterns;
+    }
+}
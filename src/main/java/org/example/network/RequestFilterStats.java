@@ -0,0 +1,87 @@
+package org.example.network;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Blocked vs. allowed request counts of a {@link RequestFilter}.
+ *
+ * Blocked requests never reach the network, so their size is estimated from the average
+ * Content-Length of allowed responses of the same resource type seen during the run, falling back
+ * to a typical size per type until one has been seen.
+ */
+public class RequestFilterStats {
+    private static final Map<String, Long> TYPICAL_BYTES = Map.of(
+            "image", 30_000L, "media", 250_000L, "font", 40_000L,
+            "script", 25_000L, "stylesheet", 15_000L);
+    private static final long TYPICAL_OTHER_BYTES = 2_000L;
+    private static final Map<String, LongAdder[]> observedSizes = new ConcurrentHashMap<>();
+
+    private final LongAdder allowedRequests = new LongAdder();
+    private final LongAdder allowedBytes = new LongAdder();
+    private final LongAdder blockedRequests = new LongAdder();
+    private final LongAdder estimatedBytesSaved = new LongAdder();
+    private final Map<String, LongAdder> blockedByType = new ConcurrentHashMap<>();
+
+    void recordAllowed(String resourceType, long contentLength) {
+        allowedRequests.increment();
+        if (contentLength > 0) {
+            allowedBytes.add(contentLength);
+            LongAdder[] observed = observedSizes.computeIfAbsent(resourceType,
+                    type -> new LongAdder[] {new LongAdder(), new LongAdder()});
+            observed[0].increment();
+            observed[1].add(contentLength);
+        }
+    }
+
+    void recordBlocked(String resourceType) {
+        blockedRequests.increment();
+        blockedByType.computeIfAbsent(resourceType, type -> new LongAdder()).increment();
+        estimatedBytesSaved.add(estimatedSize(resourceType));
+    }
+
+    public long getAllowedRequests() {
+        return allowedRequests.sum();
+    }
+
+    /**
+     * Sum of the Content-Length headers of allowed responses (responses without one are not counted)
+     */
+    public long getAllowedBytes() {
+        return allowedBytes.sum();
+    }
+
+    public long getBlockedRequests() {
+        return blockedRequests.sum();
+    }
+
+    public long getEstimatedBytesSaved() {
+        return estimatedBytesSaved.sum();
+    }
+
+    /**
+     * Blocked request counts by resource type, sorted by type
+     */
+    public Map<String, Long> getBlockedByType() {
+        Map<String, Long> counts = new TreeMap<>();
+        blockedByType.forEach((type, count) -> counts.put(type, count.sum()));
+        return counts;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("blocked %d requests (~%.1f KB saved) %s, allowed %d requests (%.1f KB)",
+                getBlockedRequests(), getEstimatedBytesSaved() / 1024.0, getBlockedByType(),
+                getAllowedRequests(), getAllowedBytes() / 1024.0);
+    }
+
+    private static long estimatedSize(String resourceType) {
+        LongAdder[] observed = observedSizes.get(resourceType);
+        if (observed != null && observed[0].sum() > 0) {
+            return observed[1].sum() / observed[0].sum();
+        }
+        return TYPICAL_BYTES.getOrDefault(resourceType, TYPICAL_OTHER_BYTES);
+    }
+}
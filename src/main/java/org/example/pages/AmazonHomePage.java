@@ -23,16 +23,18 @@ public class AmazonHomePage extends BasePage {
      * Navigate to Amazon homepage
      */
     public AmazonHomePage navigate() {
-        super.navigate(config.getAmazonUrl());
-        return this;
+        return retryableStep("navigate", () -> {
+            super.navigate(config.getAmazonUrl());
+            return this;
+        });
     }
 
     /**
      * Enter search query in the search box
      */
     public AmazonHomePage enterSearchQuery(String query) {
-        page.locator(SEARCH_BOX).waitFor();
-        page.locator(SEARCH_BOX).fill(query);
+        waitForVisible(SEARCH_BOX);
+        fill(SEARCH_BOX, query);
         return this;
     }
 
@@ -40,8 +42,12 @@ public class AmazonHomePage extends BasePage {
      * Click the search button
      */
     public AmazonSearchResultsPage clickSearchButton() {
-        page.locator(SEARCH_BUTTON).click();
-        waitForPageLoad();
+        String homeUrl = getCurrentUrl();
+        expectPage(AmazonSearchResultsPage.class);
+        click(SEARCH_BUTTON);
+        // The results page only needs its DOM; the first result is awaited by the results page itself
+        waitForUrlChange(homeUrl);
+        waitForDomContentLoaded();
         return new AmazonSearchResultsPage(page);
     }
 
@@ -49,8 +55,10 @@ public class AmazonHomePage extends BasePage {
      * Perform a search operation and return search results page
      */
     public AmazonSearchResultsPage search(String query) {
-        enterSearchQuery(query);
-        return clickSearchButton();
+        return retryableStep("search", () -> {
+            enterSearchQuery(query);
+            return clickSearchButton();
+        });
     }
 }
 
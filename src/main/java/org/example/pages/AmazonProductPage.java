@@ -1,8 +1,15 @@
 package org.example.pages;
 
+import com.microsoft.playwright.Locator;
 import com.microsoft.playwright.Page;
+import com.microsoft.playwright.TimeoutError;
+import org.example.pages.support.SelectorResolver;
 import org.example.utils.ConfigReaderUtils;
 
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * Page Object Model for Amazon product page
  */
@@ -33,104 +40,177 @@ public class AmazonProductPage extends BasePage {
     private static final String CART_SUCCESS_MESSAGE_ADDED_TO_CART = "added to cart";
     private static final String CART_SUCCESS_MESSAGE_ADDED_TO_YOUR_CART = "added to your cart";
 
+    // Browser-side check used both to wait for and to verify the cart confirmation: walks the text nodes of the
+    // page and reports where a confirmation phrase or the cart count was found, so only a small result crosses
+    // the driver pipe instead of the serialized page. Adjacent nodes are joined with a space so texts of
+    // neighbouring elements do not run together. Only the node completing a phrase is checked for visibility,
+    // so hidden text (e.g. a pre-rendered confirmation) does not count and layout is only queried on a match.
+    // With countBefore, a changed cart count confirms; without it, any visible cart count does.
+    private static final String CART_CONFIRMATION_CHECK =
+            "({ phrases, cartCountSelector, countBefore }) => {" +
+            "  const skipped = new Set(['SCRIPT', 'STYLE', 'NOSCRIPT', 'TEMPLATE']);" +
+            "  const visible = el => el.checkVisibility" +
+            "    ? el.checkVisibility({ checkOpacity: true, checkVisibilityCSS: true })" +
+            "    : el.getClientRects().length > 0;" +
+            "  const describe = el => el ? el.tagName.toLowerCase() + (el.id ? '#' + el.id : '') : '';" +
+            "  const count = document.querySelector(cartCountSelector);" +
+            "  if (count && count.offsetParent !== null" +
+            "      && (countBefore === undefined || count.textContent.trim() !== countBefore)) {" +
+            "    return 'element ' + cartCountSelector;" +
+            "  }" +
+            "  const longest = Math.max(...phrases.map(phrase => phrase.length));" +
+            "  const root = document.body || document.documentElement;" +
+            "  const walker = document.createTreeWalker(root, NodeFilter.SHOW_TEXT, {" +
+            "    acceptNode: node => !node.parentElement || skipped.has(node.parentElement.tagName)" +
+            "      ? NodeFilter.FILTER_REJECT : NodeFilter.FILTER_ACCEPT" +
+            "  });" +
+            "  let tail = '';" +
+            "  for (let node = walker.nextNode(); node; node = walker.nextNode()) {" +
+            "    const chunk = (tail + ' ' + node.nodeValue).replace(/\\s+/g, ' ').toLowerCase();" +
+            "    const phrase = phrases.find(candidate => chunk.includes(candidate));" +
+            "    if (phrase && visible(node.parentElement)) {" +
+            "      return 'text \\'' + phrase + '\\' in ' + describe(node.parentElement);" +
+            "    }" +
+            "    tail = phrase ? '' : chunk.slice(-longest);" +
+            "  }" +
+            "  return null;" +
+            "}";
+    private static final String CART_COUNT_TEXT =
+            "() => { const count = document.querySelector('" + CART_COUNT + "');" +
+            " return count ? count.textContent.trim() : null; }";
+
     private final ConfigReaderUtils config;
+    private final SelectorResolver addToCartButtons;
+    // Cart count text before the last addToCart(), so verification looks for a change like the wait did
+    private boolean cartCountRecorded;
+    private Object cartCountBefore;
 
     public AmazonProductPage(Page page) {
         super(page);
         this.config = ConfigReaderUtils.getInstance();
+        this.addToCartButtons = new SelectorResolver(page, "add-to-cart", ADD_TO_CART_SELECTORS);
     }
 
     /**
      * Handle any popups that might appear on the product page
      */
     public AmazonProductPage handlePopups() {
-        try {
-            // Close "Deliver to" popup if it appears
-            if (page.locator(DELIVERY_POPUP).isVisible()) {
-                page.locator(DELIVERY_POPUP).click();
-                wait(config.getShortTimeout());
-            }
-            // Close any other popups
-            if (page.locator(CLOSE_BUTTON).isVisible()) {
-                page.locator(CLOSE_BUTTON).first().click();
-                wait(config.getShortTimeout());
+        return retryableStep("handlePopups", () -> {
+            try {
+                // Close "Deliver to" popup if it appears
+                if (isVisible(DELIVERY_POPUP)) {
+                    click(DELIVERY_POPUP);
+                    waits.forDomStableWithin(config.getShortTimeout());
+                }
+                // Close any other popups
+                if (isVisible(CLOSE_BUTTON)) {
+                    Locator closeButton = locator(CLOSE_BUTTON).first();
+                    closeButton.click();
+                    waits.forHidden(closeButton, config.getShortTimeout());
+                }
+            } catch (Exception e) {
+                // Ignore if popups don't exist
             }
-        } catch (Exception e) {
-            // Ignore if popups don't exist
-        }
-        return this;
+            return this;
+        });
     }
 
     /**
      * Handle product options if they exist (color, size, etc.)
      */
     public AmazonProductPage handleProductOptions() {
-        try {
-            // Try to select first available option if dropdown exists
-            if (page.locator(SIZE_DROPDOWN).isVisible()) {
-                page.locator(SIZE_DROPDOWN).selectOption("1");
-                wait(config.getShortTimeout());
+        return retryableStep("handleProductOptions", () -> {
+            try {
+                // Try to select first available option if dropdown exists
+                if (isVisible(SIZE_DROPDOWN)) {
+                    locators.timed(SIZE_DROPDOWN, dropdown -> dropdown.selectOption("1"));
+                    waits.forDomStableWithin(config.getShortTimeout());
+                }
+            } catch (Exception e) {
+                // Ignore if no options to select
             }
-        } catch (Exception e) {
-            // Ignore if no options to select
-        }
-        return this;
+            return this;
+        });
     }
 
     /**
      * Add product to cart
      */
     public AmazonProductPage addToCart() {
-        wait(config.getMediumTimeout()); // Wait for Add to Cart button to be available
-
-        boolean addedToCart = false;
+        return step("addToCart", () -> {
+            cartCountBefore = page.evaluate(CART_COUNT_TEXT);
+            cartCountRecorded = true;
+
+            // Race all selectors in one round trip per poll, starting with the one that usually wins on this site
+            String selector = addToCartButtons.clickFirstVisible(config.getVisibleWaitTimeout());
+            boolean addedToCart = selector != null;
+            if (addedToCart) {
+                System.out.println("Found Add to Cart button with selector: " + selector);
+            }
 
-        // Try various selectors for Add to Cart button
-        for (String selector : ADD_TO_CART_SELECTORS) {
-            try {
-                if (page.locator(selector).count() > 0 && page.locator(selector).isVisible()) {
-                    page.locator(selector).click();
+            // If still not found, try to find any button containing "Add to Cart" text
+            if (!addedToCart) {
+                try {
+                    String addToCartText = "text=" + ADD_TO_CART_TEXT;
+                    locator(addToCartText).first().click();
                     addedToCart = true;
-                    System.out.println("Found Add to Cart button with selector: " + selector);
-                    break;
+                    System.out.println("Found Add to Cart button using text locator");
+                } catch (Exception e) {
+                    // Last attempt failed
                 }
-            } catch (Exception e) {
-                // Continue to next selector
-                continue;
             }
-        }
 
-        // If still not found, try to find any button containing "Add to Cart" text
-        if (!addedToCart) {
-            try {
-                String addToCartText = "text=" + ADD_TO_CART_TEXT;
-                page.locator(addToCartText).first().click();
-                addedToCart = true;
-                System.out.println("Found Add to Cart button using text locator");
-            } catch (Exception e) {
-                // Last attempt failed
+            if (!addedToCart) {
+                throw new RuntimeException("Could not find 'Add to Cart' button on the product page. " +
+                        "Page URL: " + getCurrentUrl());
             }
-        }
 
-        if (!addedToCart) {
-            throw new RuntimeException("Could not find 'Add to Cart' button on the product page. " +
-                    "Page URL: " + getCurrentUrl());
-        }
+            waitForCartConfirmation();
+            return this;
+        });
+    }
 
-        // Wait for cart confirmation to appear
-        wait(config.getLongTimeout());
-        return this;
+    /**
+     * Wait until the cart confirmation appears, at most wait.timeout.cart.confirmation.
+     * A timeout is not an error here; verifyItemAddedToCart() reports the outcome with the same check.
+     */
+    private void waitForCartConfirmation() {
+        findCartConfirmation(config.getCartConfirmationWaitTimeout());
     }
 
     /**
-     * Verify that item was added to cart
+     * Verify that item was added to cart, waiting at most wait.timeout.cart.confirmation
      */
     public boolean verifyItemAddedToCart() {
-        String pageContent = page.content().toLowerCase();
-        boolean cartUpdated = pageContent.contains(CART_SUCCESS_MESSAGE_ADDED_TO_CART) ||
-                             pageContent.contains(CART_SUCCESS_MESSAGE_ADDED_TO_YOUR_CART) ||
-                             page.locator(CART_COUNT).isVisible();
-        return cartUpdated;
+        return retryableStep("verifyItemAddedToCart", () -> {
+            String confirmation = findCartConfirmation(config.getCartConfirmationWaitTimeout());
+            if (confirmation != null) {
+                System.out.println("Cart confirmation found: " + confirmation);
+            }
+            return confirmation != null;
+        });
+    }
+
+    /**
+     * Look for a visible cart confirmation message or cart count inside the browser. After addToCart() the
+     * cart count only counts when it changed. The check runs in the page until it matches or the timeout
+     * elapses; only the match location is returned.
+     * @param timeout Timeout in milliseconds
+     * @return Where the confirmation was found (e.g. "text 'added to cart' in div#attach-confirmation"), or null
+     */
+    public String findCartConfirmation(int timeout) {
+        Map<String, Object> arg = new HashMap<>();
+        arg.put("phrases", Arrays.asList(CART_SUCCESS_MESSAGE_ADDED_TO_CART, CART_SUCCESS_MESSAGE_ADDED_TO_YOUR_CART));
+        arg.put("cartCountSelector", CART_COUNT);
+        if (cartCountRecorded) {
+            arg.put("countBefore", cartCountBefore);
+        }
+        try {
+            Object location = waits.forJsValue(CART_CONFIRMATION_CHECK, arg, timeout);
+            return location != null ? location.toString() : null;
+        } catch (TimeoutError e) {
+            return null;
+        }
     }
 
     /**
@@ -1,17 +1,49 @@
 package org.example.pages;
 
+import com.microsoft.playwright.Locator;
 import com.microsoft.playwright.Page;
+import com.microsoft.playwright.options.WaitUntilState;
+import org.example.browser.BrowserSession;
 import org.example.utils.ConfigReaderUtils;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 /**
  * Page Object Model for Amazon search results page
+ *
+ * With search.results.direct.navigation=true, results are opened by navigating to their product
+ * link instead of clicking them, and up to search.results.prefetch.count further results are loaded
+ * in background tabs of the same context meanwhile. Opening one of those results later just
+ * switches to its tab, so journeys through several results overlap their page loads. The tab of
+ * the opened result becomes the session's journey page ({@link BrowserSession#continueOn(Page)}).
+ *
+ * Usage Example:
+ * <pre>
+ * AmazonSearchResultsPage results = new AmazonHomePage(page).navigate().search("motorola");
+ * AmazonProductPage first = results.openSearchResult(0);   // new tab, results stay on this page
+ * AmazonProductPage second = results.openSearchResult(1);  // prefetched tab, already loading
+ * </pre>
  */
 public class AmazonSearchResultsPage extends BasePage {
 
     // Locators
     private static final String SEARCH_RESULT_ITEM = "[data-component-type='s-search-result']";
 
+    // Product link of every result, read in one round trip; the title link is preferred over image or badge links
+    private static final String RESULT_URLS =
+            "items => items.map(item => {" +
+            "  const link = item.querySelector('h2 a[href]') || item.querySelector('a.a-link-normal[href]')" +
+            "    || item.querySelector('a[href]');" +
+            "  return link ? link.href : null;" +
+            "}).filter(Boolean)";
+
     private final ConfigReaderUtils config;
+    private final Map<String, Page> prefetchedTabs = new LinkedHashMap<>();
+    private List<String> resultUrls;
 
     public AmazonSearchResultsPage(Page page) {
         super(page);
@@ -19,21 +51,139 @@ public class AmazonSearchResultsPage extends BasePage {
     }
 
     /**
-     * Click on the first search result
+     * Click on the first search result, or open it directly with search.results.direct.navigation=true
      */
     public AmazonProductPage clickFirstSearchResult() {
-        page.locator(SEARCH_RESULT_ITEM).first().waitFor();
-        page.locator(SEARCH_RESULT_ITEM).first().click();
-        waitForPageLoad();
-        wait(config.getMediumTimeout()); // Additional wait for dynamic content
-        return new AmazonProductPage(page);
+        if (config.isSearchResultsDirectNavigation()) {
+            return openSearchResult(0);
+        }
+        return retryableStep("clickFirstSearchResult", () -> {
+            Locator firstResult = locator(SEARCH_RESULT_ITEM).first();
+            waits.forVisible(firstResult);
+            String resultsUrl = getCurrentUrl();
+            expectPage(AmazonProductPage.class);
+            firstResult.click();
+            // Dynamic product content is awaited by the product page actions themselves
+            waitForUrlChange(resultsUrl);
+            waitForDomContentLoaded();
+            return new AmazonProductPage(page);
+        });
+    }
+
+    /**
+     * Open a search result by navigating to its product link.
+     * A result prefetched in a background tab is returned on that tab; otherwise the result is opened
+     * in a new tab of this context, after starting the prefetch of the next search.results.prefetch.count
+     * results. This page stays on the results, so product pages returned earlier keep their own tab.
+     * @param index 0-based position in the results
+     */
+    public AmazonProductPage openSearchResult(int index) {
+        return step("openSearchResult", () -> {
+            List<String> urls = getSearchResultUrls();
+            if (index < 0 || index >= urls.size()) {
+                throw new RuntimeException("Search result " + index + " not found, page has " + urls.size()
+                        + " results. Page URL: " + getCurrentUrl());
+            }
+            String url = urls.get(index);
+
+            Page tab = prefetchedTabs.remove(url);
+            if (tab != null) {
+                tab.bringToFront();
+                BrowserSession.continueOn(tab);
+                AmazonProductPage productPage = new AmazonProductPage(tab);
+                productPage.waitForDomContentLoaded();
+                return productPage;
+            }
+
+            // Only wait for the response here, so the prefetch requests go out while the result parses
+            expectPage(AmazonProductPage.class);
+            Page resultTab = page.context().newPage();
+            resultTab.navigate(url, new Page.NavigateOptions()
+                    .setWaitUntil(WaitUntilState.COMMIT)
+                    .setTimeout(config.getUrlChangeWaitTimeout()));
+            prefetch(urls, index + 1, config.getSearchResultsPrefetchCount());
+            resultTab.bringToFront();
+            BrowserSession.continueOn(resultTab);
+            AmazonProductPage productPage = new AmazonProductPage(resultTab);
+            productPage.waitForDomContentLoaded();
+            return productPage;
+        });
+    }
+
+    /**
+     * Start loading the top results in background tabs of this context.
+     * Each call only waits until the navigations are committed; the product page actions wait for
+     * their own elements. Results that are already prefetched are not loaded again.
+     * @param count Number of results from the top
+     * @return Product pages of the prefetched results, in result order
+     */
+    public List<AmazonProductPage> prefetchSearchResults(int count) {
+        return step("prefetchSearchResults", () -> {
+            List<String> urls = getSearchResultUrls();
+            prefetch(urls, 0, count);
+            List<AmazonProductPage> productPages = new ArrayList<>();
+            for (String url : urls.subList(0, Math.min(count, urls.size()))) {
+                Page tab = prefetchedTabs.get(url);
+                if (tab != null) {
+                    productPages.add(new AmazonProductPage(tab));
+                }
+            }
+            return productPages;
+        });
+    }
+
+    /**
+     * Close the background tabs of results that were prefetched but not opened
+     */
+    public void closePrefetchedResults() {
+        for (Page tab : prefetchedTabs.values()) {
+            if (!tab.isClosed()) {
+                tab.close();
+            }
+        }
+        prefetchedTabs.clear();
+    }
+
+    /**
+     * Product links of all results on the page, read once and cached, so they stay available
+     * after this page navigated to a result
+     */
+    public List<String> getSearchResultUrls() {
+        if (resultUrls == null) {
+            Locator results = locator(SEARCH_RESULT_ITEM);
+            waits.forVisible(results.first());
+            @SuppressWarnings("unchecked")
+            List<String> urls = (List<String>) locators.timed(SEARCH_RESULT_ITEM, all -> all.evaluateAll(RESULT_URLS));
+            resultUrls = Collections.unmodifiableList(new ArrayList<>(urls));
+        }
+        return resultUrls;
     }
 
     /**
      * Get the number of search results
      */
     public int getSearchResultsCount() {
-        return page.locator(SEARCH_RESULT_ITEM).count();
+        return locators.timed(SEARCH_RESULT_ITEM, Locator::count);
     }
-}
 
+    private void prefetch(List<String> urls, int from, int count) {
+        int to = Math.min(urls.size(), from + Math.max(0, count));
+        if (to > from) {
+            expectPage(AmazonProductPage.class);
+        }
+        for (String url : urls.subList(Math.min(from, to), to)) {
+            if (prefetchedTabs.containsKey(url)) {
+                continue;
+            }
+            Page tab = page.context().newPage();
+            tab.navigate(url, new Page.NavigateOptions()
+                    .setWaitUntil(WaitUntilState.COMMIT)
+                    .setTimeout(config.getUrlChangeWaitTimeout()));
+            prefetchedTabs.put(url, tab);
+        }
+        // newPage() brings the new tab to the front; keep the journey's page in the foreground
+        if (to > from) {
+            page.bringToFront();
+        }
+    }
+}
@@ -1,6 +1,17 @@
 package org.example.pages;
 
+import com.microsoft.playwright.Locator;
 import com.microsoft.playwright.Page;
+import com.microsoft.playwright.options.WaitUntilState;
+import org.example.browser.ArtifactRecorder;
+import org.example.metrics.StepMetrics;
+import org.example.network.RequestFilter;
+import org.example.pages.support.LocatorRegistry;
+import org.example.pages.support.StepRetry;
+import org.example.pages.support.WaitEngine;
+
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
 
 /**
  * Base Page class that contains common methods and properties
@@ -8,15 +19,100 @@ import com.microsoft.playwright.Page;
  */
 public class BasePage {
     protected Page page;
+    protected final WaitEngine waits;
+    protected final LocatorRegistry locators;
 
     public BasePage(Page page) {
         this.page = page;
+        this.waits = new WaitEngine(page);
+        this.locators = LocatorRegistry.forPage(page);
+    }
+
+    /**
+     * Run a page action and record its latency as "&lt;PageObject&gt;.&lt;name&gt;" in {@link StepMetrics};
+     * with artifacts.screenshot.mode=steps a screenshot is taken after it ({@link ArtifactRecorder}).
+     * The action is not retried, so use this for anything that changes state, like adding to the cart.
+     */
+    protected <T> T step(String name, Supplier<T> action) {
+        String stepName = getClass().getSimpleName() + "." + name;
+        T result = StepRetry.once(stepName, () -> StepMetrics.time(stepName, action));
+        ArtifactRecorder.captureStep(page, stepName);
+        return result;
+    }
+
+    /**
+     * Like {@link #step}, but a failed action is retried by {@link StepRetry} after restoring the page
+     * it started on. Only for idempotent actions: navigating, reading, closing popups.
+     */
+    protected <T> T retryableStep(String name, Supplier<T> action) {
+        String stepName = getClass().getSimpleName() + "." + name;
+        T result = StepRetry.run(stepName, () -> StepMetrics.time(stepName, action), restorePoint());
+        ArtifactRecorder.captureStep(page, stepName);
+        return result;
+    }
+
+    /**
+     * Restore point for a step retry: reload the page if it is still on the same URL, else go back to it
+     */
+    private Runnable restorePoint() {
+        String url = page.url();
+        return () -> {
+            if (page.url().equals(url)) {
+                page.reload(new Page.ReloadOptions().setWaitUntil(WaitUntilState.DOMCONTENTLOADED));
+            } else {
+                page.navigate(url, new Page.NavigateOptions().setWaitUntil(WaitUntilState.DOMCONTENTLOADED));
+            }
+        };
+    }
+
+    /**
+     * Get the cached locator for a selector (shared by all page objects of this page)
+     */
+    protected Locator locator(String selector) {
+        return locators.get(selector);
+    }
+
+    /**
+     * Click the element matching the selector, recording the latency per selector
+     */
+    protected void click(String selector) {
+        locators.timed(selector, locator -> {
+            locator.click();
+            return null;
+        });
+    }
+
+    /**
+     * Fill the element matching the selector, recording the latency per selector
+     */
+    protected void fill(String selector, String text) {
+        locators.timed(selector, locator -> {
+            locator.fill(text);
+            return null;
+        });
+    }
+
+    /**
+     * Check whether the element matching the selector is visible, recording the latency per selector
+     */
+    protected boolean isVisible(String selector) {
+        return locators.timed(selector, Locator::isVisible);
+    }
+
+    /**
+     * Switch the request filter of the context to the network.&lt;PageObject&gt;.* overrides of the page
+     * object the next navigation leads to. Call it before the click or navigate, so the rule already
+     * applies to the requests of that page load.
+     */
+    protected void expectPage(Class<? extends BasePage> pageObject) {
+        RequestFilter.usePageObject(page, pageObject);
     }
 
     /**
-     * Navigate to a URL
+     * Navigate to a URL, with the request filter overrides of this page object
      */
     public void navigate(String url) {
+        expectPage(getClass());
         page.navigate(url);
         page.waitForLoadState();
     }
@@ -43,10 +139,59 @@ public class BasePage {
     }
 
     /**
-     * Wait for a specific timeout
+     * Wait until the DOM of the current document is parsed; lighter than waiting for the load event
+     */
+    public void waitForDomContentLoaded() {
+        waits.forDomContentLoaded();
+    }
+
+    /**
+     * Wait until the element matching the selector is visible
+     */
+    public void waitForVisible(String selector) {
+        waits.forVisible(locator(selector).first());
+    }
+
+    /**
+     * Wait until the network has been idle for 500 ms
+     */
+    public void waitForNetworkQuiet() {
+        waits.forNetworkQuiet();
+    }
+
+    /**
+     * Wait until the DOM stopped changing
+     */
+    public void waitForDomStable() {
+        waits.forDomStable();
+    }
+
+    /**
+     * Wait until the page navigated away from the given URL
+     */
+    public void waitForUrlChange(String previousUrl) {
+        waits.forUrlChange(previousUrl);
+    }
+
+    /**
+     * Wait until a JavaScript condition returns a truthy value
+     */
+    public void waitForJsCondition(String expression) {
+        waits.forJsCondition(expression, null);
+    }
+
+    /**
+     * Wait until a custom condition holds
+     */
+    public void waitUntil(String description, BooleanSupplier condition) {
+        waits.until(description, condition);
+    }
+
+    /**
+     * Wait for a specific timeout.
+     * Prefer the condition-based waits above; a fixed sleep always costs its full duration.
      */
     public void wait(int milliseconds) {
         page.waitForTimeout(milliseconds);
     }
 }
-
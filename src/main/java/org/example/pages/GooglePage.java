@@ -23,8 +23,10 @@ public class GooglePage extends BasePage {
      * Navigate to Google homepage
      */
     public GooglePage navigate() {
-        super.navigate(config.getGoogleUrl());
-        return this;
+        return retryableStep("navigate", () -> {
+            super.navigate(config.getGoogleUrl());
+            return this;
+        });
     }
 
     /**
@@ -45,7 +47,7 @@ public class GooglePage extends BasePage {
      * Enter search query in the search box
      */
     public GooglePage enterSearchQuery(String query) {
-        page.locator(SEARCH_BOX).fill(query);
+        fill(SEARCH_BOX, query);
         return this;
     }
 
@@ -53,7 +55,7 @@ public class GooglePage extends BasePage {
      * Click the search button
      */
     public GooglePage clickSearchButton() {
-        page.locator(SEARCH_BUTTON).click();
+        click(SEARCH_BUTTON);
         return this;
     }
 
@@ -0,0 +1,110 @@
+package org.example.pages.support;
+
+import com.microsoft.playwright.Locator;
+import com.microsoft.playwright.Page;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Per-Page cache of {@link Locator} objects keyed by selector string.
+ *
+ * All page objects created for the same Page share one registry, so repeated lookups of the same
+ * selector reuse one Locator instead of building and parsing it again. The cache is cleared whenever
+ * the main frame navigates and the registry is dropped when the page closes.
+ *
+ * Usage and action latency per selector are aggregated across all pages in {@link #getStats()}.
+ */
+public class LocatorRegistry {
+    private static final Map<Page, LocatorRegistry> registries = new HashMap<>();
+    private static final Map<String, LocatorStats> stats = new ConcurrentHashMap<>();
+
+    private final Page page;
+    private final Map<String, Locator> locators = new ConcurrentHashMap<>();
+
+    private LocatorRegistry(Page page) {
+        this.page = page;
+    }
+
+    /**
+     * Get the registry of a page, creating it on first use
+     */
+    public static LocatorRegistry forPage(Page page) {
+        synchronized (registries) {
+            LocatorRegistry registry = registries.get(page);
+            if (registry == null) {
+                registry = new LocatorRegistry(page);
+                registries.put(page, registry);
+                LocatorRegistry created = registry;
+                page.onFrameNavigated(frame -> {
+                    if (frame.parentFrame() == null) {
+                        created.invalidate();
+                    }
+                });
+                page.onClose(closedPage -> {
+                    synchronized (registries) {
+                        registries.remove(closedPage);
+                    }
+                });
+            }
+            return registry;
+        }
+    }
+
+    /**
+     * Get the cached locator for a selector
+     */
+    public Locator get(String selector) {
+        statsFor(selector).recordLookup();
+        return locators.computeIfAbsent(selector, page::locator);
+    }
+
+    /**
+     * Run an action on the cached locator and record its latency
+     * @param selector Selector of the locator
+     * @param action Action to perform, e.g. Locator::isVisible
+     * @return Result of the action
+     */
+    public <T> T timed(String selector, Function<Locator, T> action) {
+        Locator locator = get(selector);
+        long start = System.nanoTime();
+        try {
+            return action.apply(locator);
+        } finally {
+            statsFor(selector).recordAction(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Drop all cached locators of this page
+     */
+    public void invalidate() {
+        locators.clear();
+    }
+
+    /**
+     * Number of locators currently cached for this page
+     */
+    public int size() {
+        return locators.size();
+    }
+
+    /**
+     * Usage and latency counters of all selectors, hottest (most total action time) first
+     */
+    public static List<LocatorStats> getStats() {
+        List<LocatorStats> snapshot = new ArrayList<>(stats.values());
+        snapshot.sort(Comparator.comparingDouble(LocatorStats::getTotalActionMillis).reversed()
+                .thenComparing(Comparator.comparingLong(LocatorStats::getLookups).reversed()));
+        return snapshot;
+    }
+
+    private static LocatorStats statsFor(String selector) {
+        return stats.computeIfAbsent(selector, LocatorStats::new);
+    }
+}
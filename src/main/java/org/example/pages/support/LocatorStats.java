@@ -0,0 +1,67 @@
+package org.example.pages.support;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Usage and latency counters of one selector across all pages and threads
+ */
+public class LocatorStats {
+    private final String selector;
+    private final LongAdder lookups = new LongAdder();
+    private final LongAdder actions = new LongAdder();
+    private final LongAdder totalActionNanos = new LongAdder();
+    private final AtomicLong maxActionNanos = new AtomicLong();
+
+    LocatorStats(String selector) {
+        this.selector = selector;
+    }
+
+    void recordLookup() {
+        lookups.increment();
+    }
+
+    void recordAction(long nanos) {
+        actions.increment();
+        totalActionNanos.add(nanos);
+        maxActionNanos.accumulateAndGet(nanos, Math::max);
+    }
+
+    public String getSelector() {
+        return selector;
+    }
+
+    /**
+     * Number of times the locator was requested from a registry
+     */
+    public long getLookups() {
+        return lookups.sum();
+    }
+
+    /**
+     * Number of timed actions (click, fill, visibility checks, ...) performed through the locator
+     */
+    public long getActions() {
+        return actions.sum();
+    }
+
+    public double getTotalActionMillis() {
+        return totalActionNanos.sum() / 1_000_000.0;
+    }
+
+    public double getAverageActionMillis() {
+        long count = actions.sum();
+        return count == 0 ? 0 : getTotalActionMillis() / count;
+    }
+
+    public double getMaxActionMillis() {
+        return maxActionNanos.get() / 1_000_000.0;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s: lookups=%d, actions=%d, total=%.1fms, avg=%.1fms, max=%.1fms",
+                selector, getLookups(), getActions(), getTotalActionMillis(),
+                getAverageActionMillis(), getMaxActionMillis());
+    }
+}
@@ -0,0 +1,253 @@
+package org.example.pages.support;
+
+import com.microsoft.playwright.ElementHandle;
+import com.microsoft.playwright.JSHandle;
+import com.microsoft.playwright.Locator;
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.TimeoutError;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Resolves a list of alternative selectors for the same element in a single browser round trip.
+ *
+ * Instead of asking Playwright about every candidate one after another, all candidates are checked
+ * by one script in the page, which returns the first visible one. Candidates are tried in the order
+ * of their past hit counts on the current site ({@link SelectorStatistics}), then in declared order.
+ *
+ * Plain CSS and CSS with a trailing {@code :has-text('...')} are resolved in the page; other Playwright
+ * selectors (text=, xpath=, ...) are checked through Playwright only if none of those matched.
+ * {@link #clickFirstVisible(int)} clicks the element the in-page check found, so the text match of the
+ * script and Playwright's own {@code :has-text} engine can never pick different elements.
+ *
+ * Usage Example:
+ * <pre>
+ * SelectorResolver buttons = new SelectorResolver(page, "add-to-cart", "#add-to-cart-button", "button:has-text('Add to Cart')");
+ * String winner = buttons.clickFirstVisible(5000);
+ * </pre>
+ */
+public class SelectorResolver {
+
+    private static final Pattern HAS_TEXT = Pattern.compile("^(.*):has-text\\((['\"])(.*)\\2\\)$");
+    private static final Pattern PLAYWRIGHT_ENGINE = Pattern.compile("^[a-z-]+=.*|^//.*|.*>>.*");
+
+    // Whether an element is a visible match of a candidate; shared by both scripts below
+    private static final String MATCHES =
+            "  const visible = el => {" +
+            "    const style = window.getComputedStyle(el);" +
+            "    return style.visibility !== 'hidden' && el.getClientRects().length > 0;" +
+            "  };" +
+            "  const normalize = text => (text || '').replace(/\\s+/g, ' ').toLowerCase();" +
+            "  const matches = (candidate, el) =>" +
+            "    (candidate.text === null || normalize(el.textContent).includes(candidate.text)) && visible(el);";
+    // Returns the first visible match of the first candidate that has one, or null
+    private static final String FIRST_VISIBLE =
+            "candidates => {" +
+            MATCHES +
+            "  for (const candidate of candidates) {" +
+            "    let elements;" +
+            "    try { elements = document.querySelectorAll(candidate.css); } catch (e) { continue; }" +
+            "    for (const el of elements) {" +
+            "      if (matches(candidate, el)) return el;" +
+            "    }" +
+            "  }" +
+            "  return null;" +
+            "}";
+    // Returns the index of the first candidate the element found by FIRST_VISIBLE matches
+    private static final String WINNER_INDEX =
+            "(el, candidates) => {" +
+            MATCHES +
+            "  const winner = candidates.find(candidate => {" +
+            "    try { return el.matches(candidate.css) && matches(candidate, el); } catch (e) { return false; }" +
+            "  });" +
+            "  return winner ? winner.index : -1;" +
+            "}";
+
+    private final Page page;
+    private final String group;
+    private final String[] selectors;
+    private final WaitEngine waits;
+    private final LocatorRegistry locators;
+    private final SelectorStatistics statistics;
+
+    /**
+     * @param page Page to resolve on
+     * @param group Name of the element the selectors describe, used as statistics key (e.g. "add-to-cart")
+     * @param selectors Alternative selectors in declared priority order
+     */
+    public SelectorResolver(Page page, String group, String... selectors) {
+        this.page = page;
+        this.group = group;
+        this.selectors = selectors.clone();
+        this.waits = new WaitEngine(page);
+        this.locators = LocatorRegistry.forPage(page);
+        this.statistics = SelectorStatistics.getInstance();
+    }
+
+    /**
+     * Resolve all candidates in one round trip
+     * @return The first visible selector in ranked order, or null if none is visible
+     */
+    public String resolve() {
+        Winner winner = resolveElement();
+        if (winner == null) {
+            return null;
+        }
+        winner.element.dispose();
+        return selectors[winner.index];
+    }
+
+    /**
+     * Resolve all candidates in one round trip, keeping a handle on the element that was found.
+     * Finding the winning candidate's index takes a second round trip, only after a match.
+     * @return The winning candidate and its element (dispose it when done), or null if none is visible
+     */
+    private Winner resolveElement() {
+        List<Map<String, Object>> candidates = new ArrayList<>();
+        for (int index : rankedIndexes(currentSite())) {
+            Map<String, Object> candidate = toInPageCandidate(index);
+            if (candidate != null) {
+                candidates.add(candidate);
+            }
+        }
+        if (candidates.isEmpty()) {
+            return null;
+        }
+        JSHandle result = page.evaluateHandle(FIRST_VISIBLE, candidates);
+        ElementHandle element = result.asElement();
+        if (element == null) {
+            result.dispose();
+            return null;
+        }
+        Object index = element.evaluate(WINNER_INDEX, candidates);
+        if (!(index instanceof Number) || ((Number) index).intValue() < 0) {
+            element.dispose();
+            return null;
+        }
+        return new Winner(((Number) index).intValue(), element);
+    }
+
+    /**
+     * Poll {@link #resolve()} until a candidate is visible, then fall back to the candidates
+     * that can only be checked through Playwright
+     * @param timeout Timeout in milliseconds for the in-page candidates
+     * @return The winning selector, or null if no candidate is visible
+     */
+    public String waitForFirstVisible(int timeout) {
+        String[] winner = new String[1];
+        try {
+            waits.until("any of " + group + " selectors to be visible",
+                    () -> (winner[0] = resolve()) != null, timeout);
+            return winner[0];
+        } catch (TimeoutError e) {
+            return resolveThroughPlaywright();
+        }
+    }
+
+    /**
+     * Click the first visible candidate and count the win for the current site
+     * @param timeout Timeout in milliseconds to wait for a candidate
+     * @return The selector that was clicked, or null if no candidate became visible
+     */
+    public String clickFirstVisible(int timeout) {
+        Winner[] winner = new Winner[1];
+        try {
+            waits.until("any of " + group + " selectors to be visible",
+                    () -> (winner[0] = resolveElement()) != null, timeout);
+        } catch (TimeoutError e) {
+            String selector = resolveThroughPlaywright();
+            if (selector == null) {
+                return null;
+            }
+            locators.get(selector).filter(new Locator.FilterOptions().setVisible(true)).first().click();
+            statistics.recordHit(currentSite(), group, selector);
+            return selector;
+        }
+        String selector = selectors[winner[0].index];
+        try {
+            winner[0].element.click();
+        } finally {
+            winner[0].element.dispose();
+        }
+        statistics.recordHit(currentSite(), group, selector);
+        return selector;
+    }
+
+    private String resolveThroughPlaywright() {
+        for (int index : rankedIndexes(currentSite())) {
+            if (toInPageCandidate(index) != null) {
+                continue;
+            }
+            try {
+                if (locators.get(selectors[index]).first().isVisible()) {
+                    return selectors[index];
+                }
+            } catch (RuntimeException e) {
+                // Continue to next selector
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Candidate indexes ordered by hit count on the site, keeping declared order for ties
+     */
+    private List<Integer> rankedIndexes(String site) {
+        Map<Integer, Long> hits = new HashMap<>();
+        List<Integer> indexes = new ArrayList<>();
+        for (int i = 0; i < selectors.length; i++) {
+            indexes.add(i);
+            hits.put(i, statistics.getHits(site, group, selectors[i]));
+        }
+        indexes.sort(Comparator.comparing((Integer i) -> hits.get(i)).reversed());
+        return indexes;
+    }
+
+    /**
+     * Translate a selector for the in-page script, or null if only Playwright can evaluate it
+     */
+    private Map<String, Object> toInPageCandidate(int index) {
+        String selector = selectors[index].trim();
+        String css = selector;
+        String text = null;
+        Matcher hasText = HAS_TEXT.matcher(selector);
+        if (hasText.matches()) {
+            css = hasText.group(1).isEmpty() ? "*" : hasText.group(1);
+            text = hasText.group(3).replaceAll("\\s+", " ").toLowerCase();
+        }
+        if (PLAYWRIGHT_ENGINE.matcher(css).matches() || css.contains(":has-text(") || css.contains(":text(")) {
+            return null;
+        }
+        Map<String, Object> candidate = new HashMap<>();
+        candidate.put("index", index);
+        candidate.put("css", css);
+        candidate.put("text", text);
+        return candidate;
+    }
+
+    private String currentSite() {
+        try {
+            String host = URI.create(page.url()).getHost();
+            return host != null ? host : "local";
+        } catch (IllegalArgumentException e) {
+            return "local";
+        }
+    }
+
+    private static final class Winner {
+        private final int index;
+        private final ElementHandle element;
+
+        private Winner(int index, ElementHandle element) {
+            this.index = index;
+            this.element = element;
+        }
+    }
+}
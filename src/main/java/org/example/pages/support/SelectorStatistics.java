@@ -0,0 +1,111 @@
+package org.example.pages.support;
+
+import org.example.utils.ConfigReaderUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-site hit counts of the selectors that won a {@link SelectorResolver} race.
+ *
+ * Counts are loaded from selector.stats.file on first use and written back when the JVM exits,
+ * so the selector that usually matches on a site is tried first in the next run.
+ * Keys have the form {@code site|group|selector}.
+ */
+public class SelectorStatistics {
+    private static volatile SelectorStatistics instance;
+
+    private final Path statsFile;
+    private final Map<String, AtomicLong> hits = new ConcurrentHashMap<>();
+
+    private SelectorStatistics(Path statsFile) {
+        this.statsFile = statsFile;
+        load();
+        Runtime.getRuntime().addShutdownHook(new Thread(this::save, "selector-stats-writer"));
+    }
+
+    /**
+     * Get singleton instance of SelectorStatistics
+     */
+    public static SelectorStatistics getInstance() {
+        if (instance == null) {
+            synchronized (SelectorStatistics.class) {
+                if (instance == null) {
+                    String file = ConfigReaderUtils.getInstance().getSelectorStatsFile();
+                    instance = new SelectorStatistics(Paths.get(file));
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Record that a selector matched first on a site
+     */
+    public void recordHit(String site, String group, String selector) {
+        hits.computeIfAbsent(key(site, group, selector), k -> new AtomicLong()).incrementAndGet();
+    }
+
+    /**
+     * Get how often a selector matched first on a site
+     */
+    public long getHits(String site, String group, String selector) {
+        AtomicLong count = hits.get(key(site, group, selector));
+        return count != null ? count.get() : 0;
+    }
+
+    /**
+     * Write the counts to selector.stats.file, replacing the previous file atomically
+     */
+    public void save() {
+        if (hits.isEmpty()) {
+            return;
+        }
+        Properties properties = new Properties();
+        hits.forEach((key, count) -> properties.setProperty(key, String.valueOf(count.get())));
+        try {
+            Path parent = statsFile.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            Path tempFile = Files.createTempFile(parent, "selector-stats", ".tmp");
+            try (OutputStream outputStream = Files.newOutputStream(tempFile)) {
+                properties.store(outputStream, "Selector hit counts (site|group|selector=hits)");
+            }
+            Files.move(tempFile, statsFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            System.out.println("Could not save selector statistics to " + statsFile + ": " + e.getMessage());
+        }
+    }
+
+    private void load() {
+        if (!Files.exists(statsFile)) {
+            return;
+        }
+        Properties properties = new Properties();
+        try (InputStream inputStream = Files.newInputStream(statsFile)) {
+            properties.load(inputStream);
+        } catch (IOException e) {
+            System.out.println("Ignoring unreadable selector statistics " + statsFile + ": " + e.getMessage());
+            return;
+        }
+        for (String key : properties.stringPropertyNames()) {
+            try {
+                hits.put(key, new AtomicLong(Long.parseLong(properties.getProperty(key).trim())));
+            } catch (NumberFormatException e) {
+                // Skip corrupted entry
+            }
+        }
+    }
+
+    private static String key(String site, String group, String selector) {
+        return site + "|" + group + "|" + selector;
+    }
+}
@@ -0,0 +1,157 @@
+package org.example.pages.support;
+
+import io.qameta.allure.Allure;
+import io.qameta.allure.AllureLifecycle;
+import io.qameta.allure.model.Parameter;
+import io.qameta.allure.model.Status;
+import io.qameta.allure.model.StepResult;
+import org.example.listeners.ExtentReportListeners;
+import org.example.metrics.StepMetrics;
+import org.example.utils.ConfigReaderUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Step-level retry for page object actions: a failed step (a popup covered a button, a selector
+ * missed) is retried in the same browser context after restoring the page it started on, instead
+ * of rerunning the whole test.
+ *
+ * Only idempotent steps may be retried ({@link #run}); a step that changes state, like adding to
+ * the cart, runs through {@link #once}, so a failure is never hidden behind a second add. Steps
+ * called from within a step that runs once are not retried either.
+ *
+ * A step is retried at most retry.step.max times, and all steps of a test share retry.test.budget
+ * retries, so a broken page fails after a few seconds instead of retrying every step. Only the
+ * outermost step retries; steps called from within it are retried with it. Every retry is reported
+ * as an Allure step (spanning the restore and the new attempt), an Extent log entry and the
+ * "retry: &lt;step&gt;" step metric.
+ *
+ * Usage Example:
+ * <pre>
+ * StepRetry.startTest();   // per test, done by RetryListener
+ * String title = StepRetry.run("GooglePage.getTitle", page::title, page::reload);
+ * StepRetry.once("AmazonProductPage.addToCart", () -> addToCart());
+ * </pre>
+ */
+public final class StepRetry {
+    private static final ThreadLocal<Integer> remainingBudget =
+            ThreadLocal.withInitial(() -> ConfigReaderUtils.getInstance().getRetryTestBudget());
+    private static final ThreadLocal<Integer> depth = ThreadLocal.withInitial(() -> 0);
+    private static final ThreadLocal<Integer> retriesOfTest = ThreadLocal.withInitial(() -> 0);
+
+    private StepRetry() {
+    }
+
+    /**
+     * Reset the retry budget of the current thread for a new test
+     */
+    public static void startTest() {
+        remainingBudget.set(ConfigReaderUtils.getInstance().getRetryTestBudget());
+        retriesOfTest.set(0);
+    }
+
+    /**
+     * Step retries of the current test so far
+     */
+    public static int getRetriesOfTest() {
+        return retriesOfTest.get();
+    }
+
+    /**
+     * Run a step that must not be retried, e.g. because it changes state on the server.
+     * Steps called from within it are not retried either, since restoring their page would
+     * undo part of this step.
+     */
+    public static <T> T once(String step, Supplier<T> action) {
+        depth.set(depth.get() + 1);
+        try {
+            return action.get();
+        } finally {
+            depth.set(depth.get() - 1);
+        }
+    }
+
+    /**
+     * Run an idempotent step, retrying it after a RuntimeException while the step and test budgets allow
+     * @param step Step name used in reports and metrics
+     * @param action The step
+     * @param restore Brings the page back to the state the step started from; if it fails, the
+     *                original failure is thrown
+     */
+    public static <T> T run(String step, Supplier<T> action, Runnable restore) {
+        int maxRetries = ConfigReaderUtils.getInstance().getRetryStepMax();
+        if (depth.get() > 0 || maxRetries <= 0) {
+            return action.get();
+        }
+        depth.set(1);
+        try {
+            int attempt = 1;
+            String cause = null;
+            long retryStartNanos = 0;
+            long retryStartMillis = 0;
+            while (true) {
+                try {
+                    T result = action.get();
+                    if (cause != null) {
+                        report(step, attempt, cause, retryStartNanos, retryStartMillis, true);
+                    }
+                    return result;
+                } catch (RuntimeException e) {
+                    if (cause != null) {
+                        report(step, attempt, cause, retryStartNanos, retryStartMillis, false);
+                    }
+                    if (attempt > maxRetries || remainingBudget.get() <= 0) {
+                        throw e;
+                    }
+                    remainingBudget.set(remainingBudget.get() - 1);
+                    retriesOfTest.set(retriesOfTest.get() + 1);
+                    attempt++;
+                    cause = e.getClass().getSimpleName() + ": " + firstLine(e.getMessage());
+                    retryStartNanos = System.nanoTime();
+                    retryStartMillis = System.currentTimeMillis();
+                    System.out.println("Retrying step " + step + " (attempt " + attempt + ") after " + cause);
+                    try {
+                        restore.run();
+                    } catch (RuntimeException restoreFailure) {
+                        e.addSuppressed(restoreFailure);
+                        throw e;
+                    }
+                }
+            }
+        } finally {
+            depth.set(0);
+        }
+    }
+
+    private static void report(String step, int attempt, String cause, long startNanos, long startMillis, boolean passed) {
+        long durationNanos = System.nanoTime() - startNanos;
+        StepMetrics.record("retry: " + step, durationNanos);
+
+        String outcome = passed ? "passed" : "failed";
+        ExtentReportListeners.addStep(String.format("Retried step %s (attempt %d, %s, %d ms) after %s",
+                step, attempt, outcome, durationNanos / 1_000_000, cause), passed ? "WARNING" : "FAIL");
+
+        AllureLifecycle lifecycle = Allure.getLifecycle();
+        if (lifecycle.getCurrentTestCaseOrStep().isPresent()) {
+            String uuid = UUID.randomUUID().toString();
+            lifecycle.startStep(uuid, new StepResult()
+                    .setName("Retry " + step + " (attempt " + attempt + ")")
+                    .setStatus(passed ? Status.PASSED : Status.BROKEN)
+                    .setParameters(new ArrayList<>(List.of(new Parameter().setName("cause").setValue(cause)))));
+            // Let the step span the restore and the new attempt
+            lifecycle.updateStep(uuid, result -> result.setStart(startMillis));
+            lifecycle.stopStep(uuid);
+        }
+    }
+
+    private static String firstLine(String message) {
+        if (message == null) {
+            return "";
+        }
+        int newline = message.indexOf('\n');
+        return newline >= 0 ? message.substring(0, newline) : message;
+    }
+}
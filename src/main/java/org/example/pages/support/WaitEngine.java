@@ -0,0 +1,195 @@
+package org.example.pages.support;
+
+import com.microsoft.playwright.JSHandle;
+import com.microsoft.playwright.Locator;
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.TimeoutError;
+import com.microsoft.playwright.options.LoadState;
+import com.microsoft.playwright.options.WaitForSelectorState;
+import com.microsoft.playwright.options.WaitUntilState;
+import org.example.utils.ConfigReaderUtils;
+
+import java.util.function.BooleanSupplier;
+
+/**
+ * Condition-based waits for page objects, used instead of fixed sleeps.
+ *
+ * Every wait returns as soon as its condition holds and fails with a Playwright
+ * {@link TimeoutError} once the per-condition timeout from config.properties
+ * (wait.timeout.*) has elapsed. Browser-side conditions are evaluated by Playwright itself;
+ * Java-side conditions are polled with a capped exponential backoff
+ * (wait.poll.initial doubling up to wait.poll.max).
+ */
+public class WaitEngine {
+
+    // Installs a MutationObserver once per document and reports whether the DOM was quiet for quietMs
+    private static final String DOM_STABLE_CONDITION =
+            "quietMs => {" +
+            "  let state = window.__waitEngineDomState;" +
+            "  if (!state) {" +
+            "    state = window.__waitEngineDomState = { last: performance.now() };" +
+            "    new MutationObserver(() => { state.last = performance.now(); })" +
+            "      .observe(document, { subtree: true, childList: true, attributes: true, characterData: true });" +
+            "  }" +
+            "  return performance.now() - state.last >= quietMs;" +
+            "}";
+
+    private final Page page;
+    private final ConfigReaderUtils config;
+
+    public WaitEngine(Page page) {
+        this.page = page;
+        this.config = ConfigReaderUtils.getInstance();
+    }
+
+    /**
+     * Wait until the locator is visible, using wait.timeout.visible
+     */
+    public void forVisible(Locator locator) {
+        forVisible(locator, config.getVisibleWaitTimeout());
+    }
+
+    /**
+     * Wait until the locator is visible
+     * @param timeout Timeout in milliseconds
+     */
+    public void forVisible(Locator locator, int timeout) {
+        locator.waitFor(new Locator.WaitForOptions()
+                .setState(WaitForSelectorState.VISIBLE)
+                .setTimeout(timeout));
+    }
+
+    /**
+     * Wait until the locator is hidden or detached
+     * @param timeout Timeout in milliseconds
+     */
+    public void forHidden(Locator locator, int timeout) {
+        locator.waitFor(new Locator.WaitForOptions()
+                .setState(WaitForSelectorState.HIDDEN)
+                .setTimeout(timeout));
+    }
+
+    /**
+     * Wait until there were no network connections for at least 500 ms, using wait.timeout.network.idle
+     */
+    public void forNetworkQuiet() {
+        page.waitForLoadState(LoadState.NETWORKIDLE,
+                new Page.WaitForLoadStateOptions().setTimeout(config.getNetworkIdleWaitTimeout()));
+    }
+
+    /**
+     * Wait until the DOM had no mutations for wait.dom.quiet.period, using wait.timeout.dom.stable
+     */
+    public void forDomStable() {
+        forDomStable(config.getDomStableWaitTimeout());
+    }
+
+    /**
+     * Wait until the DOM had no mutations for wait.dom.quiet.period
+     * @param timeout Timeout in milliseconds
+     */
+    public void forDomStable(int timeout) {
+        int quietPeriod = config.getDomQuietPeriod();
+        page.waitForFunction(DOM_STABLE_CONDITION, quietPeriod, new Page.WaitForFunctionOptions()
+                .setTimeout(timeout)
+                .setPollingInterval(Math.max(quietPeriod / 3, config.getInitialPollInterval())));
+    }
+
+    /**
+     * Wait for the DOM to settle, giving up quietly after the timeout.
+     * Used after optional interactions (popups, option pickers) on pages that may never go fully quiet.
+     * @param timeout Maximum time to wait in milliseconds
+     * @return true if the DOM became stable within the timeout
+     */
+    public boolean forDomStableWithin(int timeout) {
+        try {
+            forDomStable(timeout);
+            return true;
+        } catch (TimeoutError e) {
+            return false;
+        }
+    }
+
+    /**
+     * Wait until the DOMContentLoaded event fired for the current document, using timeout.page.load
+     */
+    public void forDomContentLoaded() {
+        page.waitForLoadState(LoadState.DOMCONTENTLOADED,
+                new Page.WaitForLoadStateOptions().setTimeout(config.getPageLoadTimeout()));
+    }
+
+    /**
+     * Wait until the page navigated away from the given URL (the new document is committed),
+     * using wait.timeout.url.change
+     */
+    public void forUrlChange(String previousUrl) {
+        page.waitForURL(url -> !url.equals(previousUrl), new Page.WaitForURLOptions()
+                .setWaitUntil(WaitUntilState.COMMIT)
+                .setTimeout(config.getUrlChangeWaitTimeout()));
+    }
+
+    /**
+     * Wait until the JavaScript expression or function returns a truthy value, using wait.timeout.condition
+     * @param expression JavaScript expression or function, e.g. "() => document.readyState === 'complete'"
+     * @param arg Optional argument passed to the function
+     */
+    public void forJsCondition(String expression, Object arg) {
+        forJsCondition(expression, arg, config.getConditionWaitTimeout());
+    }
+
+    /**
+     * Wait until the JavaScript expression or function returns a truthy value
+     * @param timeout Timeout in milliseconds
+     */
+    public void forJsCondition(String expression, Object arg, int timeout) {
+        page.waitForFunction(expression, arg, new Page.WaitForFunctionOptions()
+                .setTimeout(timeout)
+                .setPollingInterval(config.getInitialPollInterval()))
+                .dispose();
+    }
+
+    /**
+     * Wait until the JavaScript function returns a truthy value and return that value.
+     * Only the (small) result is transferred back from the browser.
+     * @param timeout Timeout in milliseconds
+     * @return The first truthy value, converted to Java (String, Number, Boolean, List or Map)
+     */
+    public Object forJsValue(String expression, Object arg, int timeout) {
+        JSHandle result = page.waitForFunction(expression, arg, new Page.WaitForFunctionOptions()
+                .setTimeout(timeout)
+                .setPollingInterval(config.getInitialPollInterval()));
+        try {
+            return result.jsonValue();
+        } finally {
+            result.dispose();
+        }
+    }
+
+    /**
+     * Poll a Java-side condition with capped backoff, using wait.timeout.condition
+     * @param description Shown in the timeout message
+     */
+    public void until(String description, BooleanSupplier condition) {
+        until(description, condition, config.getConditionWaitTimeout());
+    }
+
+    /**
+     * Poll a Java-side condition with capped backoff.
+     * The pause between polls goes through the page so Playwright keeps dispatching events meanwhile.
+     * @param description Shown in the timeout message
+     * @param timeout Timeout in milliseconds
+     */
+    public void until(String description, BooleanSupplier condition, int timeout) {
+        long deadline = System.currentTimeMillis() + timeout;
+        int interval = config.getInitialPollInterval();
+        int maxInterval = Math.max(interval, config.getMaxPollInterval());
+        while (!condition.getAsBoolean()) {
+            long remaining = deadline - System.currentTimeMillis();
+            if (remaining <= 0) {
+                throw new TimeoutError("Timeout " + timeout + "ms exceeded while waiting for: " + description);
+            }
+            page.waitForTimeout(Math.min(interval, remaining));
+            interval = Math.min(interval * 2, maxInterval);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package org.example.scheduling;
+
+import org.example.utils.ConfigReaderUtils;
+import org.testng.IMethodInstance;
+import org.testng.IMethodInterceptor;
+import org.testng.ITestContext;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Orders the test methods by their {@link TestHistory}, so a long journey does not start last and
+ * leave the other worker threads idle at the end of a parallel run.
+ *
+ * schedule.order supports:
+ * <ul>
+ *   <li>declared - keep the order of testng.xml</li>
+ *   <li>longest-first - longest recorded duration first; tests without history count as shard.default.duration.ms</li>
+ *   <li>failed-first - tests that failed in their last run first (so broken builds fail fast), then longest first</li>
+ * </ul>
+ * With parallel.mode methods all methods are ordered freely. Otherwise the methods of a class stay
+ * together, so per-class setup still runs once per class: with parallel classes or tests the classes
+ * are ordered by their total duration (failed classes first for failed-first), while a serial run
+ * (parallel.mode none) keeps the classes in declared order and only reorders the methods within each class.
+ *
+ * Usage Example:
+ * <pre>
+ * mvn test -Dparallel.mode=methods -Dschedule.order=failed-first
+ * </pre>
+ */
+public class HistoryScheduler implements IMethodInterceptor {
+
+    @Override
+    public List<IMethodInstance> intercept(List<IMethodInstance> methods, ITestContext context) {
+        ConfigReaderUtils config = ConfigReaderUtils.getInstance();
+        String order = config.getScheduleOrder();
+        if (order.equalsIgnoreCase("declared") || methods.size() < 2) {
+            return methods;
+        }
+        boolean failedFirst = order.equalsIgnoreCase("failed-first");
+        if (!failedFirst && !order.equalsIgnoreCase("longest-first")) {
+            throw new RuntimeException("Unsupported schedule.order: " + order + " (use declared, longest-first or failed-first)");
+        }
+
+        TestHistory history = TestHistory.getInstance();
+        long defaultMillis = config.getShardDefaultDurationMillis();
+        String parallelMode = config.getParallelMode();
+        boolean groupByClass = !parallelMode.equalsIgnoreCase("methods");
+        boolean serial = parallelMode.equalsIgnoreCase("none");
+
+        Map<IMethodInstance, Long> durations = new HashMap<>();
+        Map<IMethodInstance, Boolean> failed = new HashMap<>();
+        Map<Class<?>, Long> classDurations = new HashMap<>();
+        Map<Class<?>, Boolean> classFailed = new HashMap<>();
+        Map<Class<?>, Integer> classPositions = new HashMap<>();
+        for (IMethodInstance instance : methods) {
+            String key = TestHistory.key(instance.getMethod());
+            long duration = history.getDurationMillis(key, defaultMillis);
+            boolean lastFailed = history.hasFailedLastRun(key);
+            durations.put(instance, duration);
+            failed.put(instance, lastFailed);
+            Class<?> testClass = instance.getMethod().getRealClass();
+            classDurations.merge(testClass, duration, Long::sum);
+            classFailed.merge(testClass, lastFailed, Boolean::logicalOr);
+            classPositions.putIfAbsent(testClass, classPositions.size());
+        }
+
+        Comparator<IMethodInstance> comparator = (a, b) -> 0;
+        if (serial) {
+            // Keep the declared class order, only the methods within a class are reordered
+            comparator = comparator.thenComparing(instance -> classPositions.get(instance.getMethod().getRealClass()));
+        } else if (groupByClass) {
+            if (failedFirst) {
+                comparator = comparator.thenComparing(instance -> !classFailed.get(instance.getMethod().getRealClass()));
+            }
+            comparator = comparator
+                    .thenComparing(instance -> -classDurations.get(instance.getMethod().getRealClass()))
+                    .thenComparing(instance -> instance.getMethod().getRealClass().getName());
+        }
+        if (failedFirst) {
+            comparator = comparator.thenComparing(instance -> !failed.get(instance));
+        }
+        comparator = comparator.thenComparing(instance -> -durations.get(instance));
+
+        // List.sort is stable: methods with equal keys keep their declared order
+        List<IMethodInstance> ordered = new ArrayList<>(methods);
+        ordered.sort(comparator);
+        return ordered;
+    }
+}
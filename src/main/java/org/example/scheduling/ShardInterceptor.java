@@ -0,0 +1,116 @@
+package org.example.scheduling;
+
+import org.example.utils.ConfigReaderUtils;
+import org.testng.IMethodInstance;
+import org.testng.IMethodInterceptor;
+import org.testng.ISuite;
+import org.testng.ITestContext;
+import org.testng.ITestNGMethod;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+import java.util.stream.Collectors;
+
+/**
+ * Runs only the tests of one shard, so the same testng.xml can be split across JVMs or CI nodes.
+ *
+ * The shards are planned by {@link ShardPlanner} over all test methods of the suite, with the
+ * durations recorded in {@link TestHistory}; tests without history count as shard.default.duration.ms.
+ * A method always runs on the shard of the methods and groups it depends on.
+ * All nodes have to see the same history files to compute the same plan. With shard.count=1 (the
+ * default) every test runs.
+ *
+ * Usage Example:
+ * <pre>
+ * mvn test -Dshard.index=0 -Dshard.count=3   # on node 1
+ * mvn test -Dshard.index=1 -Dshard.count=3   # on node 2
+ * mvn test -Dshard.index=2 -Dshard.count=3   # on node 3
+ * </pre>
+ */
+public class ShardInterceptor implements IMethodInterceptor {
+    private static final Map<ISuite, ShardPlanner.Plan> PLANS = new ConcurrentHashMap<>();
+
+    @Override
+    public List<IMethodInstance> intercept(List<IMethodInstance> methods, ITestContext context) {
+        ConfigReaderUtils config = ConfigReaderUtils.getInstance();
+        int shardCount = config.getShardCount();
+        if (shardCount <= 1) {
+            return methods;
+        }
+        int shardIndex = config.getShardIndex();
+        if (shardIndex < 0 || shardIndex >= shardCount) {
+            throw new RuntimeException("shard.index must be between 0 and " + (shardCount - 1) + ": " + shardIndex);
+        }
+
+        ShardPlanner.Plan plan = PLANS.computeIfAbsent(context.getSuite(), suite -> planSuite(suite, shardCount, shardIndex));
+        List<IMethodInstance> selected = new ArrayList<>();
+        for (IMethodInstance instance : methods) {
+            int shard = plan.shardOf(TestHistory.key(instance.getMethod()));
+            // Methods unknown to the plan (e.g. added by another interceptor) run on the first shard
+            if (shard == shardIndex || (shard < 0 && shardIndex == 0)) {
+                selected.add(instance);
+            }
+        }
+        return selected;
+    }
+
+    private static ShardPlanner.Plan planSuite(ISuite suite, int shardCount, int shardIndex) {
+        TestHistory history = TestHistory.getInstance();
+        long defaultMillis = ConfigReaderUtils.getInstance().getShardDefaultDurationMillis();
+        List<String> keys = suite.getAllMethods().stream()
+                .map(TestHistory::key)
+                .collect(Collectors.toList());
+        ShardPlanner.Plan plan = ShardPlanner.plan(keys, key -> history.getDurationMillis(key, defaultMillis),
+                dependencies(suite.getAllMethods()), shardCount);
+
+        long known = keys.stream().distinct().filter(history.getEntries()::containsKey).count();
+        System.out.println("Shard " + (shardIndex + 1) + "/" + shardCount + ": " + plan.getTests(shardIndex).size()
+                + " of " + keys.stream().distinct().count() + " tests (" + known + " with history), estimated "
+                + plan.getLoadMillis(shardIndex) / 1000 + " s, slowest shard " + plan.getMakespanMillis() / 1000 + " s");
+        return plan;
+    }
+
+    /**
+     * Keys each method depends on through dependsOnMethods (names or patterns) and dependsOnGroups
+     */
+    private static Map<String, Set<String>> dependencies(List<ITestNGMethod> methods) {
+        Map<String, Set<String>> dependencies = new HashMap<>();
+        for (ITestNGMethod method : methods) {
+            Set<String> dependsOn = new LinkedHashSet<>();
+            for (String dependency : method.getMethodsDependedUpon()) {
+                for (ITestNGMethod candidate : methods) {
+                    String key = TestHistory.key(candidate);
+                    if (key.equals(dependency) || matches(dependency, key)) {
+                        dependsOn.add(key);
+                    }
+                }
+            }
+            List<String> groups = Arrays.asList(method.getGroupsDependedUpon());
+            for (ITestNGMethod candidate : methods) {
+                if (Arrays.stream(candidate.getGroups()).anyMatch(groups::contains)) {
+                    dependsOn.add(TestHistory.key(candidate));
+                }
+            }
+            if (!dependsOn.isEmpty()) {
+                dependencies.computeIfAbsent(TestHistory.key(method), key -> new LinkedHashSet<>()).addAll(dependsOn);
+            }
+        }
+        return dependencies;
+    }
+
+    private static boolean matches(String pattern, String key) {
+        try {
+            return Pattern.matches(pattern, key);
+        } catch (PatternSyntaxException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package org.example.scheduling;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.ToLongFunction;
+
+/**
+ * Splits tests into K shards of similar total duration with longest-processing-time bin packing:
+ * tests are taken longest first and each goes to the shard with the smallest load so far.
+ * Tests that depend on each other (dependsOnMethods, dependsOnGroups) form one unit with their summed
+ * estimate and always land on the same shard, since TestNG refuses to run a method whose dependency
+ * is not part of the run. The plan only depends on the test keys, dependencies and estimates, so every
+ * node computes the same plan.
+ *
+ * Usage Example:
+ * <pre>
+ * ShardPlanner.Plan plan = ShardPlanner.plan(keys, key -> history.getDurationMillis(key, 30_000), 3);
+ * boolean mine = plan.shardOf("PlayWrightTest.testAddMobileToCart") == shardIndex;
+ * </pre>
+ */
+public final class ShardPlanner {
+
+    private ShardPlanner() {
+    }
+
+    /**
+     * Plan shards for independent tests
+     * @param keys Test keys, duplicates are ignored
+     * @param estimateMillis Estimated duration of a test
+     * @param shardCount Number of shards, at least 1
+     */
+    public static Plan plan(Collection<String> keys, ToLongFunction<String> estimateMillis, int shardCount) {
+        return plan(keys, estimateMillis, Collections.emptyMap(), shardCount);
+    }
+
+    /**
+     * Plan shards for the given tests, keeping every test on the shard of the tests it depends on
+     * @param keys Test keys, duplicates are ignored
+     * @param estimateMillis Estimated duration of a test
+     * @param dependencies Keys each test depends on; keys that are not planned are ignored
+     * @param shardCount Number of shards, at least 1
+     */
+    public static Plan plan(Collection<String> keys, ToLongFunction<String> estimateMillis,
+                            Map<String, ? extends Collection<String>> dependencies, int shardCount) {
+        if (shardCount < 1) {
+            throw new IllegalArgumentException("Shard count must be at least 1: " + shardCount);
+        }
+        Map<String, Long> estimates = new HashMap<>();
+        for (String key : new TreeSet<>(keys)) {
+            estimates.put(key, Math.max(0, estimateMillis.applyAsLong(key)));
+        }
+
+        // Union the tests connected by dependencies; each unit is represented by its smallest key
+        Map<String, String> parents = new HashMap<>();
+        for (String key : estimates.keySet()) {
+            parents.put(key, key);
+        }
+        dependencies.forEach((key, dependsOn) -> {
+            if (!estimates.containsKey(key)) {
+                return;
+            }
+            for (String dependency : dependsOn) {
+                if (estimates.containsKey(dependency)) {
+                    String first = root(parents, key);
+                    String second = root(parents, dependency);
+                    if (first.compareTo(second) < 0) {
+                        parents.put(second, first);
+                    } else if (second.compareTo(first) < 0) {
+                        parents.put(first, second);
+                    }
+                }
+            }
+        });
+        Map<String, List<String>> units = new TreeMap<>();
+        Map<String, Long> unitEstimates = new HashMap<>();
+        for (String key : new TreeSet<>(estimates.keySet())) {
+            String unit = root(parents, key);
+            units.computeIfAbsent(unit, ignored -> new ArrayList<>()).add(key);
+            unitEstimates.merge(unit, estimates.get(key), Long::sum);
+        }
+
+        List<String> longestFirst = new ArrayList<>(units.keySet());
+        longestFirst.sort(Comparator.comparing((String unit) -> unitEstimates.get(unit)).reversed()
+                .thenComparing(Comparator.naturalOrder()));
+
+        long[] loads = new long[shardCount];
+        List<List<String>> shards = new ArrayList<>();
+        for (int i = 0; i < shardCount; i++) {
+            shards.add(new ArrayList<>());
+        }
+        Map<String, Integer> assignment = new LinkedHashMap<>();
+        for (String unit : longestFirst) {
+            int target = 0;
+            for (int i = 1; i < shardCount; i++) {
+                if (loads[i] < loads[target]) {
+                    target = i;
+                }
+            }
+            loads[target] += unitEstimates.get(unit);
+            for (String key : units.get(unit)) {
+                shards.get(target).add(key);
+                assignment.put(key, target);
+            }
+        }
+        return new Plan(shards, loads, assignment);
+    }
+
+    private static String root(Map<String, String> parents, String key) {
+        String root = key;
+        while (!parents.get(root).equals(root)) {
+            root = parents.get(root);
+        }
+        parents.put(key, root);
+        return root;
+    }
+
+    /**
+     * Tests and estimated load per shard
+     */
+    public static final class Plan {
+        private final List<List<String>> shards;
+        private final long[] loads;
+        private final Map<String, Integer> assignment;
+
+        private Plan(List<List<String>> shards, long[] loads, Map<String, Integer> assignment) {
+            this.shards = shards;
+            this.loads = loads;
+            this.assignment = assignment;
+        }
+
+        public int getShardCount() {
+            return shards.size();
+        }
+
+        /**
+         * Shard index of a test, or -1 if the test was not part of the plan
+         */
+        public int shardOf(String key) {
+            return assignment.getOrDefault(key, -1);
+        }
+
+        /**
+         * Tests of a shard, longest unit first (tests of one unit in key order)
+         */
+        public List<String> getTests(int shard) {
+            return Collections.unmodifiableList(shards.get(shard));
+        }
+
+        /**
+         * Estimated total duration of a shard
+         */
+        public long getLoadMillis(int shard) {
+            return loads[shard];
+        }
+
+        /**
+         * Estimated wall-clock time of the sharded run, the load of the busiest shard
+         */
+        public long getMakespanMillis() {
+            long max = 0;
+            for (long load : loads) {
+                max = Math.max(max, load);
+            }
+            return max;
+        }
+    }
+}
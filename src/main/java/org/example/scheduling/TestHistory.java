@@ -0,0 +1,209 @@
+package org.example.scheduling;
+
+import org.example.utils.ConfigReaderUtils;
+import org.testng.ITestNGMethod;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Recorded per-test durations and outcomes of earlier runs, used to plan shards and order tests.
+ *
+ * Every JVM loads all *.properties files of test.history.dir and writes its own file back at the
+ * end of the run: durations.properties, or durations-shard-N.properties when sharded. Entries have
+ * the form {@code Class.method=durationMs,updatedAtMillis,P|F} (passed or failed in the last run that
+ * executed it); when several files know a test the most recently updated entry wins, so the shard
+ * files of one CI run can simply be copied into one folder.
+ * A new measurement is averaged with the recorded duration to smooth out single slow runs.
+ *
+ * Usage Example:
+ * <pre>
+ * long estimate = TestHistory.getInstance().getDurationMillis(TestHistory.key(method), 30_000);
+ * </pre>
+ */
+public class TestHistory {
+    private static volatile TestHistory instance;
+
+    private final Path historyDir;
+    private final String fileName;
+    private final Map<String, Entry> recorded;
+    // Summed over all invocations of a method in this run (data providers, invocationCount)
+    private final Map<String, Measurement> measured = new ConcurrentHashMap<>();
+
+    TestHistory(Path historyDir, String fileName) {
+        this.historyDir = historyDir;
+        this.fileName = fileName;
+        this.recorded = load(historyDir);
+    }
+
+    /**
+     * Get singleton instance of TestHistory
+     */
+    public static TestHistory getInstance() {
+        if (instance == null) {
+            synchronized (TestHistory.class) {
+                if (instance == null) {
+                    ConfigReaderUtils config = ConfigReaderUtils.getInstance();
+                    String fileName = config.getShardCount() > 1
+                            ? "durations-shard-" + config.getShardIndex() + ".properties"
+                            : "durations.properties";
+                    instance = new TestHistory(Paths.get(config.getTestHistoryDir()), fileName);
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * History key of a test method
+     */
+    public static String key(ITestNGMethod method) {
+        return method.getQualifiedName();
+    }
+
+    /**
+     * Recorded duration of a test, or the default if it never ran
+     */
+    public long getDurationMillis(String key, long defaultMillis) {
+        Entry entry = recorded.get(key);
+        return entry != null ? entry.durationMillis : defaultMillis;
+    }
+
+    /**
+     * Whether the test failed in the last run that executed it
+     */
+    public boolean hasFailedLastRun(String key) {
+        Entry entry = recorded.get(key);
+        return entry != null && entry.failed;
+    }
+
+    /**
+     * Recorded entries by key
+     */
+    public Map<String, Entry> getEntries() {
+        return Collections.unmodifiableMap(recorded);
+    }
+
+    /**
+     * Add the duration of one invocation of a test in this run
+     * @param failed Whether the invocation failed; a test counts as failed if any invocation failed
+     */
+    public void record(String key, long durationMillis, boolean failed) {
+        Measurement measurement = measured.computeIfAbsent(key, k -> new Measurement());
+        measurement.durationMillis.addAndGet(Math.max(0, durationMillis));
+        if (failed) {
+            measurement.failed = true;
+        }
+    }
+
+    /**
+     * Merge this run's measurements into the history and write this JVM's history file atomically
+     */
+    public synchronized void save() {
+        if (measured.isEmpty()) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        measured.forEach((key, measurement) -> {
+            Entry previous = recorded.get(key);
+            long duration = measurement.durationMillis.get();
+            long smoothed = previous != null ? (previous.durationMillis + duration) / 2 : duration;
+            recorded.put(key, new Entry(smoothed, now, measurement.failed));
+        });
+        measured.clear();
+
+        Properties properties = new Properties();
+        recorded.forEach((key, entry) -> properties.setProperty(key,
+                entry.durationMillis + "," + entry.updatedAtMillis + "," + (entry.failed ? "F" : "P")));
+        try {
+            Files.createDirectories(historyDir);
+            Path tempFile = Files.createTempFile(historyDir, "durations", ".tmp");
+            try (OutputStream outputStream = Files.newOutputStream(tempFile)) {
+                properties.store(outputStream, "Test history (Class.method=durationMs,updatedAtMillis,P|F)");
+            }
+            Files.move(tempFile, historyDir.resolve(fileName), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            System.out.println("Could not save test history to " + historyDir + ": " + e.getMessage());
+        }
+    }
+
+    private static Map<String, Entry> load(Path historyDir) {
+        Map<String, Entry> entries = new HashMap<>();
+        if (!Files.isDirectory(historyDir)) {
+            return entries;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(historyDir, "*.properties")) {
+            for (Path file : files) {
+                Properties properties = new Properties();
+                try (InputStream inputStream = Files.newInputStream(file)) {
+                    properties.load(inputStream);
+                }
+                for (String key : properties.stringPropertyNames()) {
+                    Entry entry = Entry.parse(properties.getProperty(key));
+                    if (entry != null) {
+                        entries.merge(key, entry, (a, b) -> a.updatedAtMillis >= b.updatedAtMillis ? a : b);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            System.out.println("Ignoring unreadable test history " + historyDir + ": " + e.getMessage());
+        }
+        return entries;
+    }
+
+    private static final class Measurement {
+        private final AtomicLong durationMillis = new AtomicLong();
+        private volatile boolean failed;
+    }
+
+    /**
+     * Recorded duration and last outcome of one test
+     */
+    public static final class Entry {
+        private final long durationMillis;
+        private final long updatedAtMillis;
+        private final boolean failed;
+
+        Entry(long durationMillis, long updatedAtMillis, boolean failed) {
+            this.durationMillis = durationMillis;
+            this.updatedAtMillis = updatedAtMillis;
+            this.failed = failed;
+        }
+
+        public long getDurationMillis() {
+            return durationMillis;
+        }
+
+        public long getUpdatedAtMillis() {
+            return updatedAtMillis;
+        }
+
+        public boolean isFailed() {
+            return failed;
+        }
+
+        private static Entry parse(String value) {
+            String[] parts = value.split(",");
+            try {
+                long updatedAt = parts.length > 1 ? Long.parseLong(parts[1].trim()) : 0;
+                boolean failed = parts.length > 2 && parts[2].trim().equals("F");
+                return new Entry(Long.parseLong(parts[0].trim()), updatedAt, failed);
+            } catch (NumberFormatException e) {
+                // Skip corrupted entry
+                return null;
+            }
+        }
+    }
+}
@@ -1,19 +1,41 @@
 package org.example.utils;
 
 import java.io.IOException;
-import java.io.InputStream;
-import java.util.Properties;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 
 /**
  * Configuration utility class to load and manage static data from config.properties
+ *
+ * Values come from layered sources, later ones win: config.properties, the profile file
+ * (-Dconfig.profile=ci reads config-ci.properties, or -Dconfig.file=path), environment variables
+ * (TIMEOUT_SHORT for timeout.short; only for keys defined in the files) and JVM system properties
+ * (-Dtimeout.short=5000, any key).
+ * The files and environment are read into an immutable {@link ConfigSnapshot} with pre-parsed
+ * values; system properties are checked on every read, so properties set at runtime still apply.
+ * With config.hot.reload=true the files the snapshot was read from are watched and a changed file
+ * swaps in a new snapshot, so timeouts can be retuned while the suite runs. Classpath files are read
+ * from their build copies (target/classes), so edits under src/main/resources only arrive after
+ * a rebuild; to retune live, put the values in a file on disk given with -Dconfig.file.
+ * The instance is safe to share between parallel test threads; reads take no locks.
  */
 public class ConfigReaderUtils {
-    private static ConfigReaderUtils instance;
-    private Properties properties;
+    private static volatile ConfigReaderUtils instance;
+    private volatile ConfigSnapshot snapshot;
 
     private ConfigReaderUtils() {
-        properties = new Properties();
-        loadProperties();
+        snapshot = ConfigSnapshot.load(System.getenv());
+        if (getProperty("config.hot.reload", "false").trim().equalsIgnoreCase("true")) {
+            startWatching(snapshot.getSourceFiles());
+        }
     }
 
     /**
@@ -31,54 +53,142 @@ public class ConfigReaderUtils {
     }
 
     /**
-     * Load properties from config.properties file
+     * Read the config files and environment again and swap in the new values
+     */
+    public void reload() {
+        snapshot = ConfigSnapshot.load(System.getenv());
+    }
+
+    /**
+     * Watch the directories of the config files on a daemon thread and reload when one of the files changes
      */
-    private void loadProperties() {
-        try (InputStream inputStream = getClass().getClassLoader()
-                .getResourceAsStream("config.properties")) {
-            if (inputStream == null) {
-                throw new RuntimeException("config.properties file not found in classpath");
+    private void startWatching(List<Path> files) {
+        if (files.isEmpty()) {
+            return;
+        }
+        WatchService watchService;
+        Set<Path> watchedFiles = new HashSet<>();
+        try {
+            watchService = FileSystems.getDefault().newWatchService();
+            Set<Path> directories = new HashSet<>();
+            for (Path file : files) {
+                watchedFiles.add(file.toAbsolutePath());
+                if (directories.add(file.toAbsolutePath().getParent())) {
+                    file.toAbsolutePath().getParent().register(watchService,
+                            StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_CREATE);
+                }
             }
-            properties.load(inputStream);
         } catch (IOException e) {
-            throw new RuntimeException("Error loading config.properties file", e);
+            System.out.println("Config hot reload disabled: " + e.getMessage());
+            return;
         }
+
+        Thread watcher = new Thread(() -> {
+            while (!Thread.currentThread().isInterrupted()) {
+                try {
+                    WatchKey key = watchService.take();
+                    boolean changed = false;
+                    for (WatchEvent<?> event : key.pollEvents()) {
+                        Path changedFile = ((Path) key.watchable()).resolve((Path) event.context());
+                        changed |= watchedFiles.contains(changedFile.toAbsolutePath());
+                    }
+                    key.reset();
+                    if (changed) {
+                        // Editors often write a file in several steps
+                        Thread.sleep(200);
+                        reload();
+                        System.out.println("Configuration reloaded from " + watchedFiles);
+                    }
+                } catch (InterruptedException e) {
+                    return;
+                } catch (RuntimeException e) {
+                    // Keep the previous snapshot, e.g. while a file is half written
+                    System.out.println("Config reload failed, keeping previous values: " + e.getMessage());
+                }
+            }
+        }, "config-watcher");
+        watcher.setDaemon(true);
+        watcher.start();
     }
 
     /**
-     * Get property value by key
+     * Active config profile: the profile name, the path given with config.file, or "default"
+     */
+    public String getConfigProfile() {
+        return snapshot.getProfile();
+    }
+
+    /**
+     * Get property value by key (system property first, then the config snapshot)
      */
     public String getProperty(String key) {
-        return properties.getProperty(key);
+        String override = System.getProperty(key);
+        return override != null ? override : snapshot.get(key);
     }
 
     /**
      * Get property value by key with default value
      */
     public String getProperty(String key, String defaultValue) {
-        return properties.getProperty(key, defaultValue);
+        String value = getProperty(key);
+        return value != null ? value : defaultValue;
     }
 
     /**
      * Get property as integer
      */
     public int getIntProperty(String key) {
-        String value = getProperty(key);
-        if (value == null) {
+        String override = System.getProperty(key);
+        if (override != null) {
+            return Integer.parseInt(override.trim());
+        }
+        Integer value = snapshot.getInt(key);
+        if (value != null) {
+            return value;
+        }
+        String text = snapshot.get(key);
+        if (text == null) {
             throw new RuntimeException("Property '" + key + "' not found in config");
         }
-        return Integer.parseInt(value);
+        return Integer.parseInt(text.trim());
     }
 
     /**
      * Get property as integer with default value
      */
     public int getIntProperty(String key, int defaultValue) {
-        String value = getProperty(key);
-        if (value == null) {
-            return defaultValue;
+        String override = System.getProperty(key);
+        if (override != null) {
+            return Integer.parseInt(override.trim());
         }
-        return Integer.parseInt(value);
+        Integer value = snapshot.getInt(key);
+        if (value != null) {
+            return value;
+        }
+        String text = snapshot.get(key);
+        return text != null ? Integer.parseInt(text.trim()) : defaultValue;
+    }
+
+    /**
+     * Integer read on hot paths: a pre-parsed snapshot field unless a system property overrides it
+     */
+    private static int intOverride(String key, int snapshotValue) {
+        String override = System.getProperty(key);
+        return override != null ? Integer.parseInt(override.trim()) : snapshotValue;
+    }
+
+    /**
+     * Like intOverride() for keys without a default: fails instead of returning a zero timeout
+     */
+    private static int requiredIntOverride(String key, int snapshotValue) {
+        String override = System.getProperty(key);
+        if (override != null) {
+            return Integer.parseInt(override.trim());
+        }
+        if (snapshotValue == ConfigSnapshot.MISSING) {
+            throw new RuntimeException("Property '" + key + "' not found in config");
+        }
+        return snapshotValue;
     }
 
     /**
@@ -110,19 +220,341 @@ public class ConfigReaderUtils {
 
     // Timeouts
     public int getShortTimeout() {
-        return getIntProperty("timeout.short");
+        return requiredIntOverride("timeout.short", snapshot.shortTimeout);
     }
 
     public int getMediumTimeout() {
-        return getIntProperty("timeout.medium");
+        return requiredIntOverride("timeout.medium", snapshot.mediumTimeout);
     }
 
     public int getLongTimeout() {
-        return getIntProperty("timeout.long");
+        return requiredIntOverride("timeout.long", snapshot.longTimeout);
     }
 
     public int getPageLoadTimeout() {
-        return getIntProperty("timeout.page.load");
+        return requiredIntOverride("timeout.page.load", snapshot.pageLoadTimeout);
+    }
+
+    // Condition-based waits
+    public int getVisibleWaitTimeout() {
+        return intOverride("wait.timeout.visible", snapshot.visibleWaitTimeout);
+    }
+
+    public int getNetworkIdleWaitTimeout() {
+        return intOverride("wait.timeout.network.idle", snapshot.networkIdleWaitTimeout);
+    }
+
+    public int getDomStableWaitTimeout() {
+        return intOverride("wait.timeout.dom.stable", snapshot.domStableWaitTimeout);
+    }
+
+    public int getUrlChangeWaitTimeout() {
+        return intOverride("wait.timeout.url.change", snapshot.urlChangeWaitTimeout);
+    }
+
+    public int getConditionWaitTimeout() {
+        return intOverride("wait.timeout.condition", snapshot.conditionWaitTimeout);
+    }
+
+    public int getCartConfirmationWaitTimeout() {
+        return intOverride("wait.timeout.cart.confirmation", snapshot.cartConfirmationWaitTimeout);
+    }
+
+    public int getDomQuietPeriod() {
+        return intOverride("wait.dom.quiet.period", snapshot.domQuietPeriod);
+    }
+
+    public int getInitialPollInterval() {
+        return intOverride("wait.poll.initial", snapshot.initialPollInterval);
+    }
+
+    public int getMaxPollInterval() {
+        return intOverride("wait.poll.max", snapshot.maxPollInterval);
+    }
+
+    // Selector ranking
+    public String getSelectorStatsFile() {
+        return getProperty("selector.stats.file", "target/selector-stats.properties");
+    }
+
+    // Browser
+    public boolean isHeadless() {
+        // Check if running in CI/CD (headless mode), then fall back to -Dbrowser.headless / config
+        String headless = System.getenv("HEADLESS");
+        if (headless == null) {
+            headless = getProperty("browser.headless", "false");
+        }
+        return headless.equalsIgnoreCase("true");
+    }
+
+    // Browser Pool
+    public int getBrowserPoolSize() {
+        int poolSize = getIntProperty("browser.pool.size", 2);
+        // Every parallel worker thread needs its own browser
+        if (!"none".equalsIgnoreCase(getParallelMode())) {
+            return Math.max(poolSize, getParallelThreadCount());
+        }
+        return poolSize;
+    }
+
+    public int getBrowserPoolMaxUses() {
+        return getIntProperty("browser.pool.max.uses", 50);
+    }
+
+    public int getBrowserPoolAcquireTimeout() {
+        return getIntProperty("browser.pool.acquire.timeout", 60000);
+    }
+
+    // Extent report writer
+    public int getReportQueueCapacity() {
+        return getIntProperty("report.queue.capacity", 10000);
+    }
+
+    public int getReportFlushInterval() {
+        return getIntProperty("report.flush.interval.ms", 5000);
+    }
+
+    public int getReportMaxTestsInMemory() {
+        return getIntProperty("report.max.tests.in.memory", 500);
+    }
+
+    // Step metrics
+    public boolean isMetricsEnabled() {
+        return getProperty("metrics.enabled", "true").trim().equalsIgnoreCase("true");
+    }
+
+    public String getMetricsDir() {
+        return getProperty("metrics.dir", "target/metrics").trim();
+    }
+
+    // Parallel Execution
+    public String getParallelMode() {
+        return getProperty("parallel.mode", "none").trim();
+    }
+
+    public int getParallelThreadCount() {
+        return Math.max(1, getIntProperty("parallel.thread.count", 1));
+    }
+
+    // Test history and sharding
+    public String getTestHistoryDir() {
+        return getProperty("test.history.dir", "test-history").trim();
+    }
+
+    public int getShardIndex() {
+        return getIntProperty("shard.index", 0);
+    }
+
+    public int getShardCount() {
+        return Math.max(1, getIntProperty("shard.count", 1));
+    }
+
+    public long getShardDefaultDurationMillis() {
+        return getIntProperty("shard.default.duration.ms", 30000);
+    }
+
+    public String getScheduleOrder() {
+        return getProperty("schedule.order", "longest-first").trim();
+    }
+
+    // Excel Reader
+    public String getExcelReadMode() {
+        return getProperty("excel.read.mode", "auto").trim();
+    }
+
+    public long getExcelStreamingThresholdBytes() {
+        return Long.parseLong(getProperty("excel.streaming.threshold.bytes", "10485760").trim());
+    }
+
+    public int getExcelStreamingBufferRows() {
+        return getIntProperty("excel.streaming.buffer.rows", 1000);
+    }
+
+    public boolean isExcelCacheEnabled() {
+        return getProperty("excel.cache.enabled", "true").trim().equalsIgnoreCase("true");
+    }
+
+    public String getExcelCacheDir() {
+        return getProperty("excel.cache.dir", "target/excel-cache").trim();
+    }
+
+    public int getExcelDataProviderMaxRowsInFlight() {
+        return getIntProperty("excel.dataprovider.max.rows.in.flight", 32);
+    }
+
+    // Journey state cache
+    public boolean isJourneyCacheEnabled() {
+        return getProperty("journey.cache.enabled", "false").trim().equalsIgnoreCase("true");
+    }
+
+    public int getJourneyCacheTtlSeconds() {
+        return getIntProperty("journey.cache.ttl.seconds", 900);
+    }
+
+    // Playwright tracing
+    public String getTraceMode() {
+        return getProperty("trace.mode", "off").trim();
+    }
+
+    public String getTraceDir() {
+        return getProperty("trace.dir", "target/traces").trim();
+    }
+
+    /**
+     * trace.screenshots, by default only in always mode (on-failure would record them for every passing test)
+     */
+    public boolean isTraceScreenshots() {
+        return traceCapture("trace.screenshots");
+    }
+
+    /**
+     * trace.snapshots, by default only in always mode (on-failure would record them for every passing test)
+     */
+    public boolean isTraceSnapshots() {
+        return traceCapture("trace.snapshots");
+    }
+
+    private boolean traceCapture(String key) {
+        String value = getProperty(key, "").trim();
+        if (value.isEmpty()) {
+            return "always".equalsIgnoreCase(getTraceMode());
+        }
+        return value.equalsIgnoreCase("true");
+    }
+
+    public boolean isTraceSources() {
+        return getProperty("trace.sources", "false").trim().equalsIgnoreCase("true");
+    }
+
+    // HAR record/replay
+    public String getHarMode() {
+        return getProperty("har.mode", "off").trim();
+    }
+
+    public String getHarDir() {
+        return getProperty("har.dir", "src/test/resources/har").trim();
+    }
+
+    public boolean isHarReplayFallbackToNetwork() {
+        return getProperty("har.replay.fallback.network", "true").trim().equalsIgnoreCase("true");
+    }
+
+    public String getHarUrlFilter() {
+        return getProperty("har.url.filter", "").trim();
+    }
+
+    // Fixture server
+    public boolean isFixtureServerEnabled() {
+        return getProperty("fixture.server.enabled", "false").trim().equalsIgnoreCase("true");
+    }
+
+    public String getFixtureServerRoot() {
+        return getProperty("fixture.server.root", "fixtures").trim();
+    }
+
+    public int getFixtureServerPort() {
+        return getIntProperty("fixture.server.port", 0);
+    }
+
+    public int getFixtureServerLatency() {
+        return getIntProperty("fixture.server.latency.ms", 0);
+    }
+
+    public int getFixtureServerLatencyJitter() {
+        return getIntProperty("fixture.server.latency.jitter.ms", 0);
+    }
+
+    public int getFixtureServerBandwidthKbps() {
+        return getIntProperty("fixture.server.bandwidth.kbps", 0);
+    }
+
+    public double getFixtureServerFailureRate() {
+        return Double.parseDouble(getProperty("fixture.server.failure.rate", "0").trim());
+    }
+
+    public int getFixtureServerFailureStatus() {
+        return getIntProperty("fixture.server.failure.status", 503);
+    }
+
+    public List<String> getFixtureServerFailurePaths() {
+        List<String> paths = new ArrayList<>();
+        for (String path : getProperty("fixture.server.failure.paths", "").split(",")) {
+            if (!path.trim().isEmpty()) {
+                paths.add(path.trim());
+            }
+        }
+        return paths;
+    }
+
+    // Network request filter
+    public boolean isNetworkFilterEnabled() {
+        return getProperty("network.filter.enabled", "false").trim().equalsIgnoreCase("true");
+    }
+
+    /**
+     * Get a comma-separated network filter list, e.g. "block.resource.types".
+     * network.&lt;pageObject&gt;.&lt;key&gt; overrides network.&lt;key&gt; when it is set (even to an empty value).
+     * @param pageObject Simple class name of a page object, or null for the default list
+     */
+    public List<String> getNetworkFilterList(String pageObject, String key) {
+        String value = pageObject != null ? getProperty("network." + pageObject + "." + key) : null;
+        if (value == null) {
+            value = getProperty("network." + key, "");
+        }
+        List<String> values = new ArrayList<>();
+        for (String item : value.split(",")) {
+            if (!item.trim().isEmpty()) {
+                values.add(item.trim());
+            }
+        }
+        return values;
+    }
+
+    // Screenshots and videos
+    public String getArtifactsScreenshotMode() {
+        return getProperty("artifacts.screenshot.mode", "on-failure").trim();
+    }
+
+    public String getArtifactsVideoMode() {
+        return getProperty("artifacts.video.mode", "off").trim();
+    }
+
+    public String getArtifactsDir() {
+        return getProperty("artifacts.dir", "target/artifacts").trim();
+    }
+
+    public int getArtifactsJpegQuality() {
+        return getIntProperty("artifacts.jpeg.quality", 70);
+    }
+
+    public int getArtifactsQueueCapacity() {
+        return getIntProperty("artifacts.queue.capacity", 256);
+    }
+
+    public int getArtifactsMaxDiskMb() {
+        return getIntProperty("artifacts.max.disk.mb", 500);
+    }
+
+    // Retry
+    public int getRetryStepMax() {
+        return Math.max(0, getIntProperty("retry.step.max", 1));
+    }
+
+    public int getRetryTestBudget() {
+        return Math.max(0, getIntProperty("retry.test.budget", 3));
+    }
+
+    public int getRetryTestMax() {
+        return Math.max(0, getIntProperty("retry.test.max", 0));
+    }
+
+    // Search results navigation
+    public boolean isSearchResultsDirectNavigation() {
+        return getProperty("search.results.direct.navigation", "false").trim().equalsIgnoreCase("true");
+    }
+
+    public int getSearchResultsPrefetchCount() {
+        return Math.max(0, getIntProperty("search.results.prefetch.count", 0));
     }
 
     // Test Data
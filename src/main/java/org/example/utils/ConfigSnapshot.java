@@ -0,0 +1,191 @@
+package org.example.utils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Immutable, pre-parsed view of the configuration files and environment, built once and swapped
+ * as a whole by {@link ConfigReaderUtils} on reload.
+ *
+ * Layers, later ones win:
+ * <ol>
+ *   <li>config.properties from the classpath (defaults)</li>
+ *   <li>the profile file: config-&lt;profile&gt;.properties from the classpath, where the profile comes from
+ *       -Dconfig.profile or the CONFIG_PROFILE environment variable, or any file given with -Dconfig.file</li>
+ *   <li>environment variables named after the keys, e.g. TIMEOUT_SHORT for timeout.short; only keys
+ *       defined in one of the files above can be overridden this way, other keys need -D</li>
+ * </ol>
+ * -D system properties are applied on top by ConfigReaderUtils at read time.
+ *
+ * Integer values are parsed once; the timeouts read inside waits are plain final fields.
+ */
+final class ConfigSnapshot {
+    /**
+     * Value of a required integer field whose key is missing or not an integer
+     */
+    static final int MISSING = Integer.MIN_VALUE;
+
+    private final Map<String, String> values;
+    private final Map<String, Integer> intValues;
+    private final List<Path> sourceFiles;
+    private final String profile;
+
+    final int shortTimeout;
+    final int mediumTimeout;
+    final int longTimeout;
+    final int pageLoadTimeout;
+    final int visibleWaitTimeout;
+    final int networkIdleWaitTimeout;
+    final int domStableWaitTimeout;
+    final int urlChangeWaitTimeout;
+    final int conditionWaitTimeout;
+    final int cartConfirmationWaitTimeout;
+    final int domQuietPeriod;
+    final int initialPollInterval;
+    final int maxPollInterval;
+
+    private ConfigSnapshot(Map<String, String> values, List<Path> sourceFiles, String profile) {
+        this.values = Collections.unmodifiableMap(values);
+        this.sourceFiles = Collections.unmodifiableList(sourceFiles);
+        this.profile = profile;
+        Map<String, Integer> parsed = new HashMap<>();
+        for (Map.Entry<String, String> entry : values.entrySet()) {
+            try {
+                parsed.put(entry.getKey(), Integer.parseInt(entry.getValue().trim()));
+            } catch (NumberFormatException e) {
+                // Not an integer property
+            }
+        }
+        this.intValues = Collections.unmodifiableMap(parsed);
+
+        shortTimeout = intValue("timeout.short", MISSING);
+        mediumTimeout = intValue("timeout.medium", MISSING);
+        longTimeout = intValue("timeout.long", MISSING);
+        pageLoadTimeout = intValue("timeout.page.load", MISSING);
+        visibleWaitTimeout = intValue("wait.timeout.visible", 10000);
+        networkIdleWaitTimeout = intValue("wait.timeout.network.idle", 10000);
+        domStableWaitTimeout = intValue("wait.timeout.dom.stable", 5000);
+        urlChangeWaitTimeout = intValue("wait.timeout.url.change", 15000);
+        conditionWaitTimeout = intValue("wait.timeout.condition", 10000);
+        cartConfirmationWaitTimeout = intValue("wait.timeout.cart.confirmation", 5000);
+        domQuietPeriod = intValue("wait.dom.quiet.period", 300);
+        initialPollInterval = intValue("wait.poll.initial", 50);
+        maxPollInterval = intValue("wait.poll.max", 500);
+    }
+
+    /**
+     * Read all layers
+     * @param environment Environment variables (System.getenv())
+     */
+    static ConfigSnapshot load(Map<String, String> environment) {
+        Map<String, String> values = new HashMap<>();
+        List<Path> sourceFiles = new ArrayList<>();
+
+        URL defaults = ConfigSnapshot.class.getClassLoader().getResource("config.properties");
+        if (defaults == null) {
+            throw new RuntimeException("config.properties file not found in classpath");
+        }
+        merge(values, defaults, sourceFiles);
+
+        String configFile = System.getProperty("config.file", environment.get("CONFIG_FILE"));
+        String profile = System.getProperty("config.profile", environment.get("CONFIG_PROFILE"));
+        String profileName = "default";
+        if (configFile != null && !configFile.trim().isEmpty()) {
+            Path file = Paths.get(configFile.trim());
+            if (!Files.isRegularFile(file)) {
+                throw new RuntimeException("Config file not found: " + file.toAbsolutePath());
+            }
+            try {
+                merge(values, file.toUri().toURL(), sourceFiles);
+            } catch (IOException e) {
+                throw new RuntimeException("Error loading config file " + file, e);
+            }
+            profileName = file.toAbsolutePath().toString();
+        } else if (profile != null && !profile.trim().isEmpty()) {
+            String resource = "config-" + profile.trim() + ".properties";
+            URL profileFile = ConfigSnapshot.class.getClassLoader().getResource(resource);
+            if (profileFile == null) {
+                throw new RuntimeException(resource + " for profile '" + profile.trim() + "' not found in classpath");
+            }
+            merge(values, profileFile, sourceFiles);
+            profileName = profile.trim();
+        }
+
+        for (String key : new ArrayList<>(values.keySet())) {
+            String override = environment.get(environmentName(key));
+            if (override != null) {
+                values.put(key, override);
+            }
+        }
+        return new ConfigSnapshot(values, sourceFiles, profileName);
+    }
+
+    /**
+     * Environment variable for a key: upper case with '.' and '-' replaced by '_'
+     */
+    static String environmentName(String key) {
+        return key.toUpperCase(Locale.ROOT).replace('.', '_').replace('-', '_');
+    }
+
+    String get(String key) {
+        return values.get(key);
+    }
+
+    /**
+     * Name of the profile layer: the profile, the path given with config.file, or "default"
+     */
+    String getProfile() {
+        return profile;
+    }
+
+    /**
+     * Pre-parsed integer value
+     * @return The value, or null if the key is missing or not an integer
+     */
+    Integer getInt(String key) {
+        return intValues.get(key);
+    }
+
+    /**
+     * Local files the snapshot was read from, i.e. the ones worth watching for changes
+     */
+    List<Path> getSourceFiles() {
+        return sourceFiles;
+    }
+
+    private int intValue(String key, int defaultValue) {
+        Integer value = intValues.get(key);
+        return value != null ? value : defaultValue;
+    }
+
+    private static void merge(Map<String, String> values, URL source, List<Path> sourceFiles) {
+        Properties properties = new Properties();
+        try (InputStream inputStream = source.openStream()) {
+            properties.load(inputStream);
+        } catch (IOException e) {
+            throw new RuntimeException("Error loading " + source, e);
+        }
+        for (String key : properties.stringPropertyNames()) {
+            values.put(key, properties.getProperty(key));
+        }
+        if ("file".equals(source.getProtocol())) {
+            try {
+                sourceFiles.add(Paths.get(source.toURI()));
+            } catch (URISyntaxException e) {
+                // Not watchable, still loaded
+            }
+        }
+    }
+}
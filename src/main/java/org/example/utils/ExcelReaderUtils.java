@@ -7,10 +7,20 @@ import org.apache.poi.hssf.usermodel.HSSFWorkbook;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.nio.file.Paths;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Utility class for reading data from Excel files (.xlsx and .xls)
@@ -35,50 +45,108 @@ import java.util.Map;
  * // Read all data as List of Maps
  * List&lt;Map&lt;String, String&gt;&gt; allData = excelReader.getAllDataAsMap();
  * 
+ * // Or stream the data rows as they are parsed (bounded memory for large files)
+ * try (Stream&lt;Map&lt;String, String&gt;&gt; rows = excelReader.streamRows()) {
+ *     rows.forEach(row -&gt; System.out.println(row.get("Username")));
+ * }
+ * 
+ * // Or iterate over them; close the iterator when stopping early
+ * try (ExcelReaderUtils.RowIterator rows = excelReader.rowIterator()) {
+ *     Map&lt;String, String&gt; firstRow = rows.next();
+ * }
+ * 
  * // Close the file when done
  * excelReader.close();
  * </pre>
+ *
+ * Read modes (excel.read.mode in config.properties):
+ * <ul>
+ *   <li>dom - the whole workbook is loaded into memory; fast random access, fine for small files</li>
+ *   <li>streaming - .xlsx sheets are parsed with the XSSF SAX model and rows are handed over as they
+ *       are parsed; the workbook is only loaded if a random-access method is called</li>
+ *   <li>auto (default) - streaming for .xlsx files of at least excel.streaming.threshold.bytes, dom otherwise</li>
+ * </ul>
+ * In both modes row Maps are read-only and share the header of their sheet; the header is read once
+ * per setSheet() call.
+ *
+ * With excel.cache.enabled, sheets read in dom mode are also written to excel.cache.dir, keyed by the
+ * SHA-256 of the file content. Later runs read unchanged sheets from the memory-mapped cache entry and
+ * never open the workbook with POI; streaming mode uses an existing entry but does not create one.
  */
 public class ExcelReaderUtils {
+    private final File file;
+    private final boolean streaming;
     private Workbook workbook;
-    private Sheet sheet;
+    private Sheet currentSheet;
+    private String sheetName;
     private FileInputStream fileInputStream;
+    private ExcelStreamingReader streamingReader;
+    private ExcelSheetCache cache;
+    private ExcelSheetCache.CachedSheet cachedSheet;
+    private List<String> sheetNames;
+    private FormulaEvaluator formulaEvaluator;
+    private ExcelRow.Columns columns;
+    private final ExcelRow.ValuePool valuePool = new ExcelRow.ValuePool();
+    private final Set<RowIterator> openIterators = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Iterator over the data rows of a sheet. In streaming mode it holds a parser thread and the
+     * open workbook package until it is exhausted or closed; {@link ExcelReaderUtils#close()} closes
+     * iterators that were abandoned.
+     */
+    public interface RowIterator extends Iterator<Map<String, String>>, AutoCloseable {
+        /**
+         * Stop reading; rows not consumed yet are discarded
+         */
+        @Override
+        void close();
+    }
 
     /**
      * Constructor to initialize Excel file
      * @param excelFilePath Path to the Excel file
      */
     public ExcelReaderUtils(String excelFilePath) {
-        try {
-            File file = new File(excelFilePath);
-            if (!file.exists()) {
-                throw new RuntimeException("Excel file not found at path: " + excelFilePath);
-            }
-            fileInputStream = new FileInputStream(file);
-            
-            // Determine file type and create appropriate workbook
-            String fileName = file.getName().toLowerCase();
-            if (fileName.endsWith(".xlsx")) {
-                workbook = new XSSFWorkbook(fileInputStream);
-            } else if (fileName.endsWith(".xls")) {
-                workbook = new HSSFWorkbook(fileInputStream);
-            } else {
-                throw new RuntimeException("Unsupported file format. Only .xlsx and .xls files are supported.");
-            }
-        } catch (IOException e) {
-            throw new RuntimeException("Error reading Excel file: " + excelFilePath, e);
+        file = new File(excelFilePath);
+        if (!file.exists()) {
+            throw new RuntimeException("Excel file not found at path: " + excelFilePath);
+        }
+        String fileName = file.getName().toLowerCase();
+        if (!fileName.endsWith(".xlsx") && !fileName.endsWith(".xls")) {
+            throw new RuntimeException("Unsupported file format. Only .xlsx and .xls files are supported.");
+        }
+
+        ConfigReaderUtils config = ConfigReaderUtils.getInstance();
+        streaming = isStreamingMode(file, config);
+        if (config.isExcelCacheEnabled()) {
+            cache = new ExcelSheetCache(file, Paths.get(config.getExcelCacheDir()));
+        }
+        if (streaming) {
+            streamingReader = new ExcelStreamingReader(file, config.getExcelStreamingBufferRows());
+        } else if (cache == null) {
+            workbook();
         }
     }
 
+    /**
+     * Whether sheets of this file are read with the streaming (SAX) reader
+     */
+    public boolean isStreaming() {
+        return streaming;
+    }
+
     /**
      * Set the sheet to read from by sheet name
      * @param sheetName Name of the sheet
      */
     public void setSheet(String sheetName) {
-        sheet = workbook.getSheet(sheetName);
-        if (sheet == null) {
-            throw new RuntimeException("Sheet '" + sheetName + "' not found in the Excel file");
+        for (String name : getAllSheetNames()) {
+            if (name.equalsIgnoreCase(sheetName)) {
+                selectSheet(name);
+                return;
+            }
         }
+        throw new RuntimeException("Sheet '" + sheetName + "' not found in the Excel file");
     }
 
     /**
@@ -86,10 +154,18 @@ public class ExcelReaderUtils {
      * @param sheetIndex Index of the sheet
      */
     public void setSheet(int sheetIndex) {
-        sheet = workbook.getSheetAt(sheetIndex);
-        if (sheet == null) {
+        List<String> names = getAllSheetNames();
+        if (sheetIndex < 0 || sheetIndex >= names.size()) {
             throw new RuntimeException("Sheet at index " + sheetIndex + " not found in the Excel file");
         }
+        selectSheet(names.get(sheetIndex));
+    }
+
+    private void selectSheet(String sheetName) {
+        this.sheetName = sheetName;
+        this.currentSheet = null;
+        this.cachedSheet = null;
+        this.columns = null;
     }
 
     /**
@@ -97,10 +173,8 @@ public class ExcelReaderUtils {
      * @return Number of rows
      */
     public int getRowCount() {
-        if (sheet == null) {
-            throw new RuntimeException("Sheet not set. Please call setSheet() first.");
-        }
-        return sheet.getPhysicalNumberOfRows();
+        ExcelSheetCache.CachedSheet cached = cachedSheet();
+        return cached != null ? cached.getPhysicalRowCount() : requireSheet().getPhysicalNumberOfRows();
     }
 
     /**
@@ -109,10 +183,11 @@ public class ExcelReaderUtils {
      * @return Number of columns
      */
     public int getColumnCount(int rowIndex) {
-        if (sheet == null) {
-            throw new RuntimeException("Sheet not set. Please call setSheet() first.");
+        ExcelSheetCache.CachedSheet cached = cachedSheet();
+        if (cached != null) {
+            return cached.getPhysicalCellCount(rowIndex);
         }
-        Row row = sheet.getRow(rowIndex);
+        Row row = requireSheet().getRow(rowIndex);
         return row != null ? row.getPhysicalNumberOfCells() : 0;
     }
 
@@ -123,10 +198,11 @@ public class ExcelReaderUtils {
      * @return Cell value as String
      */
     public String getCellData(int rowIndex, int columnIndex) {
-        if (sheet == null) {
-            throw new RuntimeException("Sheet not set. Please call setSheet() first.");
+        ExcelSheetCache.CachedSheet cached = cachedSheet();
+        if (cached != null) {
+            return cached.getCell(rowIndex, columnIndex);
         }
-        Row row = sheet.getRow(rowIndex);
+        Row row = requireSheet().getRow(rowIndex);
         if (row == null) {
             return "";
         }
@@ -141,9 +217,6 @@ public class ExcelReaderUtils {
      * @return Cell value as String
      */
     public String getCellData(int rowIndex, String columnName) {
-        if (sheet == null) {
-            throw new RuntimeException("Sheet not set. Please call setSheet() first.");
-        }
         int columnIndex = getColumnIndex(columnName);
         return getCellData(rowIndex + 1, columnIndex); // +1 to skip header row
     }
@@ -154,20 +227,11 @@ public class ExcelReaderUtils {
      * @return Column index (0-based)
      */
     public int getColumnIndex(String columnName) {
-        if (sheet == null) {
-            throw new RuntimeException("Sheet not set. Please call setSheet() first.");
+        int columnIndex = columns().indexOf(columnName);
+        if (columnIndex < 0) {
+            throw new RuntimeException("Column '" + columnName + "' not found in the header row");
         }
-        Row headerRow = sheet.getRow(0);
-        if (headerRow == null) {
-            throw new RuntimeException("Header row not found in the sheet");
-        }
-        for (int i = 0; i < headerRow.getPhysicalNumberOfCells(); i++) {
-            Cell cell = headerRow.getCell(i);
-            if (cell != null && getCellValueAsString(cell).equalsIgnoreCase(columnName)) {
-                return i;
-            }
-        }
-        throw new RuntimeException("Column '" + columnName + "' not found in the header row");
+        return columnIndex;
     }
 
     /**
@@ -176,15 +240,10 @@ public class ExcelReaderUtils {
      * @return List of cell values
      */
     public List<String> getRowData(int rowIndex) {
-        if (sheet == null) {
-            throw new RuntimeException("Sheet not set. Please call setSheet() first.");
-        }
         List<String> rowData = new ArrayList<>();
-        Row row = sheet.getRow(rowIndex);
-        if (row != null) {
-            for (int i = 0; i < row.getPhysicalNumberOfCells(); i++) {
-                rowData.add(getCellData(rowIndex, i));
-            }
+        int columnCount = getColumnCount(rowIndex);
+        for (int i = 0; i < columnCount; i++) {
+            rowData.add(getCellData(rowIndex, i));
         }
         return rowData;
     }
@@ -192,27 +251,24 @@ public class ExcelReaderUtils {
     /**
      * Read entire row as Map (key-value pairs using header row as keys)
      * @param rowIndex Row index (0-based, excluding header row)
-     * @return Map with column names as keys and cell values as values
+     * @return Read-only Map with column names as keys and cell values as values
      */
     public Map<String, String> getRowDataAsMap(int rowIndex) {
-        if (sheet == null) {
-            throw new RuntimeException("Sheet not set. Please call setSheet() first.");
+        ExcelRow.Columns header = columns();
+        int dataRowIndex = rowIndex + 1; // +1 to skip header row
+        ExcelSheetCache.CachedSheet cached = cachedSheet();
+        Row dataRow = cached == null ? requireSheet().getRow(dataRowIndex) : null;
+        if (cached != null ? !cached.hasRow(dataRowIndex) : dataRow == null) {
+            return Collections.emptyMap();
         }
-        Map<String, String> rowData = new HashMap<>();
-        Row headerRow = sheet.getRow(0);
-        if (headerRow == null) {
-            throw new RuntimeException("Header row not found in the sheet");
-        }
-        Row dataRow = sheet.getRow(rowIndex + 1); // +1 to skip header row
-        if (dataRow != null) {
-            for (int i = 0; i < headerRow.getPhysicalNumberOfCells(); i++) {
-                String columnName = getCellValueAsString(headerRow.getCell(i));
-                String cellValue = dataRow.getCell(i) != null ? 
-                    getCellValueAsString(dataRow.getCell(i)) : "";
-                rowData.put(columnName, cellValue);
-            }
+        String[] values = new String[header.size()];
+        for (int slot = 0; slot < values.length; slot++) {
+            int column = header.sourceColumn(slot);
+            String value = cached != null ? cached.getCell(dataRowIndex, column)
+                    : getCellValueAsString(dataRow.getCell(column));
+            values[slot] = valuePool.intern(value);
         }
-        return rowData;
+        return new ExcelRow(header, values);
     }
 
     /**
@@ -220,9 +276,7 @@ public class ExcelReaderUtils {
      * @return List of Maps, each Map represents a row
      */
     public List<Map<String, String>> getAllDataAsMap() {
-        if (sheet == null) {
-            throw new RuntimeException("Sheet not set. Please call setSheet() first.");
-        }
+        requireSheetName();
         List<Map<String, String>> allData = new ArrayList<>();
         int rowCount = getRowCount();
         for (int i = 1; i < rowCount; i++) { // Start from 1 to skip header row
@@ -236,9 +290,7 @@ public class ExcelReaderUtils {
      * @return List of Lists, each inner List represents a row
      */
     public List<List<String>> getAllDataAsList() {
-        if (sheet == null) {
-            throw new RuntimeException("Sheet not set. Please call setSheet() first.");
-        }
+        requireSheetName();
         List<List<String>> allData = new ArrayList<>();
         int rowCount = getRowCount();
         for (int i = 0; i < rowCount; i++) {
@@ -247,11 +299,75 @@ public class ExcelReaderUtils {
         return allData;
     }
 
+    /**
+     * Iterate over the data rows of the current sheet (header row excluded) as Maps keyed by column name.
+     * In streaming mode rows are produced while the sheet is being parsed; close the iterator
+     * (try-with-resources) when not reading it to the end, or the parser keeps waiting until this
+     * reader is closed.
+     * @return Iterator of row Maps
+     */
+    public RowIterator rowIterator() {
+        if (streaming && !isCached()) {
+            RowIterator rows = new StreamingRowIterator(streamingReader.openRows(requireSheetName()), valuePool,
+                    openIterators::remove);
+            openIterators.add(rows);
+            return rows;
+        }
+        int dataRowCount = Math.max(0, getRowCount() - 1);
+        return new RowIterator() {
+            private int rowIndex;
+
+            @Override
+            public boolean hasNext() {
+                return rowIndex < dataRowCount;
+            }
+
+            @Override
+            public Map<String, String> next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException("No more rows in sheet '" + sheetName + "'");
+                }
+                return getRowDataAsMap(rowIndex++);
+            }
+
+            @Override
+            public void close() {
+                rowIndex = dataRowCount;
+            }
+        };
+    }
+
+    /**
+     * Stream the data rows of the current sheet (header row excluded) as Maps keyed by column name.
+     * Close the stream (try-with-resources) to stop the streaming parser early.
+     * @return Stream of row Maps
+     */
+    public Stream<Map<String, String>> streamRows() {
+        RowIterator rows = rowIterator();
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(rows, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(rows::close);
+    }
+
     /**
      * Get all sheet names in the workbook
      * @return List of sheet names
      */
     public List<String> getAllSheetNames() {
+        if (sheetNames == null) {
+            List<String> names = cache != null && workbook == null ? cache.readSheetNames() : null;
+            if (names == null) {
+                names = workbook == null && streaming ? streamingReader.getSheetNames() : readSheetNames(workbook());
+                if (cache != null) {
+                    cache.writeSheetNames(names);
+                }
+            }
+            sheetNames = names;
+        }
+        return new ArrayList<>(sheetNames);
+    }
+
+    private static List<String> readSheetNames(Workbook workbook) {
         List<String> sheetNames = new ArrayList<>();
         int numberOfSheets = workbook.getNumberOfSheets();
         for (int i = 0; i < numberOfSheets; i++) {
@@ -289,8 +405,7 @@ public class ExcelReaderUtils {
                 return String.valueOf(cell.getBooleanCellValue());
             case FORMULA:
                 // Evaluate formula and return result
-                FormulaEvaluator evaluator = workbook.getCreationHelper().createFormulaEvaluator();
-                CellValue cellValue = evaluator.evaluate(cell);
+                CellValue cellValue = formulaEvaluator().evaluate(cell);
                 switch (cellValue.getCellType()) {
                     case STRING:
                         return cellValue.getStringValue();
@@ -309,9 +424,179 @@ public class ExcelReaderUtils {
     }
 
     /**
-     * Close the workbook and file input stream
+     * Get the DOM workbook, loading it on first use (streaming mode only loads it for random access)
+     */
+    private Workbook workbook() {
+        if (workbook == null) {
+            try {
+                fileInputStream = new FileInputStream(file);
+
+                // Determine file type and create appropriate workbook
+                if (file.getName().toLowerCase().endsWith(".xlsx")) {
+                    workbook = new XSSFWorkbook(fileInputStream);
+                } else {
+                    workbook = new HSSFWorkbook(fileInputStream);
+                }
+            } catch (IOException e) {
+                throw new RuntimeException("Error reading Excel file: " + file.getPath(), e);
+            }
+        }
+        return workbook;
+    }
+
+    /**
+     * Formula evaluator of the workbook, created once; it also caches evaluated cells between calls
+     */
+    private FormulaEvaluator formulaEvaluator() {
+        if (formulaEvaluator == null) {
+            formulaEvaluator = workbook().getCreationHelper().createFormulaEvaluator();
+        }
+        return formulaEvaluator;
+    }
+
+    /**
+     * Header of the current sheet, read once per setSheet() call
+     */
+    private ExcelRow.Columns columns() {
+        if (columns == null) {
+            ExcelSheetCache.CachedSheet cached = cachedSheet();
+            if (cached != null ? !cached.hasRow(0) : requireSheet().getRow(0) == null) {
+                throw new RuntimeException("Header row not found in the sheet");
+            }
+            columns = new ExcelRow.Columns(getRowData(0));
+        }
+        return columns;
+    }
+
+    /**
+     * Whether the current sheet can be read from the cache without touching the workbook
+     */
+    private boolean isCached() {
+        if (cache == null) {
+            return false;
+        }
+        if (cachedSheet == null) {
+            cachedSheet = cache.read(requireSheetName());
+        }
+        return cachedSheet != null;
+    }
+
+    /**
+     * The cached current sheet, written to the cache first if needed; null when caching is disabled
+     */
+    private ExcelSheetCache.CachedSheet cachedSheet() {
+        if (cache == null) {
+            return null;
+        }
+        if (!isCached()) {
+            cachedSheet = writeCache(requireSheet());
+        }
+        return cachedSheet;
+    }
+
+    /**
+     * Convert every cell of the sheet once and store the values in the cache
+     */
+    private ExcelSheetCache.CachedSheet writeCache(Sheet sheet) {
+        int rowSlots = sheet.getLastRowNum() + 1;
+        String[][] rows = new String[rowSlots][];
+        int[] physicalCellCounts = new int[rowSlots];
+        for (Row row : sheet) {
+            String[] values = new String[Math.max(0, row.getLastCellNum())];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = getCellValueAsString(row.getCell(i));
+            }
+            rows[row.getRowNum()] = values;
+            physicalCellCounts[row.getRowNum()] = row.getPhysicalNumberOfCells();
+        }
+        return cache.write(sheetName, rows, physicalCellCounts, sheet.getPhysicalNumberOfRows());
+    }
+
+    private String requireSheetName() {
+        if (sheetName == null) {
+            throw new RuntimeException("Sheet not set. Please call setSheet() first.");
+        }
+        return sheetName;
+    }
+
+    private Sheet requireSheet() {
+        if (currentSheet == null) {
+            currentSheet = workbook().getSheet(requireSheetName());
+        }
+        return currentSheet;
+    }
+
+    private static boolean isStreamingMode(File file, ConfigReaderUtils config) {
+        // The SAX event model only exists for the OOXML (.xlsx) format
+        if (!file.getName().toLowerCase().endsWith(".xlsx")) {
+            return false;
+        }
+        String mode = config.getExcelReadMode();
+        if ("streaming".equalsIgnoreCase(mode)) {
+            return true;
+        }
+        if ("dom".equalsIgnoreCase(mode)) {
+            return false;
+        }
+        return file.length() >= config.getExcelStreamingThresholdBytes();
+    }
+
+    /**
+     * Maps the raw rows of the streaming reader to row Maps keyed by the header row
+     */
+    private static class StreamingRowIterator implements RowIterator {
+        private final ExcelStreamingReader.RowIterator rows;
+        private final ExcelRow.Columns header;
+        private final ExcelRow.ValuePool valuePool;
+        private final Consumer<RowIterator> onClose;
+
+        StreamingRowIterator(ExcelStreamingReader.RowIterator rows, ExcelRow.ValuePool valuePool,
+                             Consumer<RowIterator> onClose) {
+            this.rows = rows;
+            this.valuePool = valuePool;
+            this.onClose = onClose;
+            if (!rows.hasNext()) {
+                rows.close();
+                throw new RuntimeException("Header row not found in the sheet");
+            }
+            this.header = new ExcelRow.Columns(rows.next());
+        }
+
+        @Override
+        public boolean hasNext() {
+            boolean hasNext = rows.hasNext();
+            if (!hasNext) {
+                // The parser thread is done, nothing left to close
+                onClose.accept(this);
+            }
+            return hasNext;
+        }
+
+        @Override
+        public Map<String, String> next() {
+            List<String> cells = rows.next();
+            String[] values = new String[header.size()];
+            for (int slot = 0; slot < values.length; slot++) {
+                int column = header.sourceColumn(slot);
+                values[slot] = column < cells.size() ? valuePool.intern(cells.get(column)) : "";
+            }
+            return new ExcelRow(header, values);
+        }
+
+        @Override
+        public void close() {
+            rows.close();
+            onClose.accept(this);
+        }
+    }
+
+    /**
+     * Close the workbook and file input stream, and stop the parsers of row iterators still open
      */
     public void close() {
+        for (RowIterator rows : openIterators) {
+            rows.close();
+        }
         try {
             if (workbook != null) {
                 workbook.close();
@@ -0,0 +1,180 @@
+package org.example.utils;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Read-only row Map returned by {@link ExcelReaderUtils}.
+ *
+ * All rows of a sheet share one {@link Columns} instance (header names and their positions), so a
+ * row only holds its values in an array instead of a HashMap with its own keys and entries.
+ * Lookups behave like the HashMap the reader used to return: keys are the exact header texts and
+ * a duplicated header name maps to the value of its last column.
+ */
+final class ExcelRow extends AbstractMap<String, String> {
+    private final Columns columns;
+    private final String[] values;
+
+    ExcelRow(Columns columns, String[] values) {
+        this.columns = columns;
+        this.values = values;
+    }
+
+    @Override
+    public String get(Object key) {
+        Integer slot = columns.slots.get(key);
+        return slot != null ? values[slot] : null;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return columns.slots.containsKey(key);
+    }
+
+    @Override
+    public int size() {
+        return values.length;
+    }
+
+    @Override
+    public Set<Entry<String, String>> entrySet() {
+        return new AbstractSet<Entry<String, String>>() {
+            @Override
+            public Iterator<Entry<String, String>> iterator() {
+                return new Iterator<Entry<String, String>>() {
+                    private int slot;
+
+                    @Override
+                    public boolean hasNext() {
+                        return slot < values.length;
+                    }
+
+                    @Override
+                    public Entry<String, String> next() {
+                        if (!hasNext()) {
+                            throw new NoSuchElementException();
+                        }
+                        int current = slot++;
+                        return new SimpleImmutableEntry<>(columns.names[current], values[current]);
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return values.length;
+            }
+        };
+    }
+
+    /**
+     * Header of a sheet: the distinct column names and the column each of them is read from
+     */
+    static final class Columns {
+        private final String[] names;
+        private final int[] sourceColumns;
+        private final Map<String, Integer> slots;
+        private final Map<String, Integer> firstColumnIgnoreCase;
+        private final int width;
+
+        /**
+         * @param header Header row values in column order
+         */
+        Columns(List<String> header) {
+            Map<String, Integer> lastColumn = new HashMap<>();
+            Map<String, Integer> firstIgnoreCase = new HashMap<>();
+            for (int i = 0; i < header.size(); i++) {
+                String name = header.get(i);
+                lastColumn.put(name, i);
+                firstIgnoreCase.putIfAbsent(name.toLowerCase(Locale.ROOT), i);
+            }
+
+            names = new String[lastColumn.size()];
+            sourceColumns = new int[lastColumn.size()];
+            slots = new HashMap<>();
+            for (int i = 0; i < header.size(); i++) {
+                String name = header.get(i);
+                if (!slots.containsKey(name)) {
+                    int slot = slots.size();
+                    slots.put(name, slot);
+                    names[slot] = name;
+                    sourceColumns[slot] = lastColumn.get(name);
+                }
+            }
+            firstColumnIgnoreCase = firstIgnoreCase;
+            width = header.size();
+        }
+
+        /**
+         * Column index of the first header matching the name, ignoring case
+         * @return Column index (0-based), or -1 if there is no such header
+         */
+        int indexOf(String columnName) {
+            Integer column = firstColumnIgnoreCase.get(columnName.toLowerCase(Locale.ROOT));
+            return column != null ? column : -1;
+        }
+
+        /**
+         * Number of header cells, duplicates included
+         */
+        int width() {
+            return width;
+        }
+
+        /**
+         * Number of distinct column names, i.e. the size of each row Map
+         */
+        int size() {
+            return names.length;
+        }
+
+        /**
+         * Column index the value of the given row slot is read from
+         */
+        int sourceColumn(int slot) {
+            return sourceColumns[slot];
+        }
+
+        @Override
+        public String toString() {
+            return Arrays.toString(names);
+        }
+    }
+
+    /**
+     * Per-reader pool that makes equal cell values share one String instance.
+     * Only short values are pooled and the pool is bounded, so sheets full of unique values
+     * (ids, descriptions) do not turn it into a second copy of the data.
+     */
+    static final class ValuePool {
+        private static final int MAX_POOLED_LENGTH = 32;
+        private static final int MAX_POOL_SIZE = 4096;
+
+        private final Map<String, String> pool = new HashMap<>();
+
+        String intern(String value) {
+            if (value.isEmpty()) {
+                return "";
+            }
+            if (value.length() > MAX_POOLED_LENGTH) {
+                return value;
+            }
+            String pooled = pool.get(value);
+            if (pooled != null) {
+                return pooled;
+            }
+            if (pool.size() < MAX_POOL_SIZE) {
+                pool.put(value, value);
+            }
+            return value;
+        }
+    }
+}
@@ -0,0 +1,340 @@
+package org.example.utils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TimeZone;
+
+/**
+ * On-disk cache of parsed sheets, used by {@link ExcelReaderUtils} so later runs do not parse
+ * unchanged workbooks with POI again.
+ *
+ * Entries are keyed by the workbook path, the SHA-256 of the workbook content and the sheet name, so
+ * editing the workbook simply leads to new entries; older entries of the same path are deleted when a
+ * new one is written. Workbooks with the same file name in other directories keep their own entries.
+ * Sheets are stored as cell value strings (already converted like getCellValueAsString() does) and
+ * read back from a memory-mapped file; rows are only decoded when they are accessed.
+ *
+ * Sheet file layout (big-endian ints, UTF-8 strings):
+ * <pre>
+ * magic, version, stringCount, (byteLength, bytes) * stringCount,
+ * rowSlots, physicalRowCount, rowOffset * rowSlots (-1 for missing rows),
+ * per row: physicalCellCount, width, stringIndex * width
+ * </pre>
+ */
+class ExcelSheetCache {
+    private static final int SHEET_MAGIC = 0x584C5343; // "XLSC"
+    private static final int NAMES_MAGIC = 0x584C534E; // "XLSN"
+    private static final int VERSION = 1;
+
+    private final File source;
+    private final Path cacheDir;
+    private final String filePrefix;
+    private String contentHash;
+
+    ExcelSheetCache(File source, Path cacheDir) {
+        this.source = source;
+        this.cacheDir = cacheDir;
+        // The file name keeps entries recognizable, the path hash keeps same-named workbooks apart
+        this.filePrefix = source.getName().replaceAll("[^A-Za-z0-9._-]", "_") + "-"
+                + sha256(canonicalPath(source)).substring(0, 12) + "-";
+    }
+
+    /**
+     * Cached sheet names of the workbook, or null if they are not cached yet
+     */
+    List<String> readSheetNames() {
+        ByteBuffer buffer = map(namesFile());
+        if (buffer == null) {
+            return null;
+        }
+        try {
+            if (buffer.getInt() != NAMES_MAGIC || buffer.getInt() != VERSION) {
+                return null;
+            }
+            int count = buffer.getInt();
+            List<String> names = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                names.add(readString(buffer));
+            }
+            return names;
+        } catch (BufferUnderflowException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    void writeSheetNames(List<String> sheetNames) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(NAMES_MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(sheetNames.size());
+            for (String name : sheetNames) {
+                writeString(out, name);
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Error encoding sheet names of " + source, e);
+        }
+        store(namesFile(), bytes.toByteArray());
+    }
+
+    /**
+     * Cached sheet, or null if the sheet is not cached yet or the entry is unreadable
+     */
+    CachedSheet read(String sheetName) {
+        Path file = sheetFile(sheetName);
+        ByteBuffer buffer = map(file);
+        if (buffer == null) {
+            return null;
+        }
+        try {
+            return new CachedSheet(buffer);
+        } catch (BufferUnderflowException | IllegalArgumentException | IndexOutOfBoundsException e) {
+            System.out.println("Ignoring corrupted Excel cache entry " + file + ": " + e);
+            return null;
+        }
+    }
+
+    /**
+     * Encode a sheet, store it in the cache directory and return it
+     * @param rows Cell values by row index, null for missing rows
+     * @param physicalCellCounts Number of physical cells by row index
+     * @param physicalRowCount Number of physical rows of the sheet
+     */
+    CachedSheet write(String sheetName, String[][] rows, int[] physicalCellCounts, int physicalRowCount) {
+        byte[] encoded = encode(rows, physicalCellCounts, physicalRowCount);
+        store(sheetFile(sheetName), encoded);
+        return new CachedSheet(ByteBuffer.wrap(encoded));
+    }
+
+    private byte[] encode(String[][] rows, int[] physicalCellCounts, int physicalRowCount) {
+        Map<String, Integer> stringIndexes = new LinkedHashMap<>();
+        for (String[] row : rows) {
+            if (row != null) {
+                for (String value : row) {
+                    stringIndexes.putIfAbsent(value, stringIndexes.size());
+                }
+            }
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(SHEET_MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(stringIndexes.size());
+            for (String value : stringIndexes.keySet()) {
+                writeString(out, value);
+            }
+            out.writeInt(rows.length);
+            out.writeInt(physicalRowCount);
+
+            // Row records follow the offset table
+            int offset = out.size() + rows.length * Integer.BYTES;
+            for (String[] row : rows) {
+                out.writeInt(row != null ? offset : -1);
+                if (row != null) {
+                    offset += (2 + row.length) * Integer.BYTES;
+                }
+            }
+            for (int rowIndex = 0; rowIndex < rows.length; rowIndex++) {
+                String[] row = rows[rowIndex];
+                if (row == null) {
+                    continue;
+                }
+                out.writeInt(physicalCellCounts[rowIndex]);
+                out.writeInt(row.length);
+                for (String value : row) {
+                    out.writeInt(stringIndexes.get(value));
+                }
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Error encoding Excel cache entry for " + source, e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Write via a temp file and an atomic move, so parallel readers never see a partial entry.
+     * A failed write only costs the next run a POI parse.
+     */
+    private void store(Path target, byte[] content) {
+        try {
+            Files.createDirectories(cacheDir);
+            deleteStaleEntries();
+            Path tempFile = Files.createTempFile(cacheDir, filePrefix, ".tmp");
+            Files.write(tempFile, content);
+            Files.move(tempFile, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            System.out.println("Could not write Excel cache entry " + target + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Remove entries of earlier versions of the same workbook path
+     */
+    private void deleteStaleEntries() throws IOException {
+        String current = filePrefix + contentHash();
+        try (DirectoryStream<Path> entries = Files.newDirectoryStream(cacheDir, filePrefix + "*")) {
+            for (Path entry : entries) {
+                String name = entry.getFileName().toString();
+                if (!name.startsWith(current) && !name.endsWith(".tmp")) {
+                    Files.deleteIfExists(entry);
+                }
+            }
+        }
+    }
+
+    private ByteBuffer map(Path file) {
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            // The mapping stays valid after the channel is closed
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        } catch (IOException e) {
+            System.out.println("Ignoring unreadable Excel cache entry " + file + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    private Path namesFile() {
+        return cacheDir.resolve(filePrefix + contentHash() + ".sheets");
+    }
+
+    /**
+     * Date cells are cached as Date.toString() output, which depends on the default time zone
+     */
+    private Path sheetFile(String sheetName) {
+        String sheetKey = sha256(sheetName + '\0' + TimeZone.getDefault().getID()).substring(0, 16);
+        return cacheDir.resolve(filePrefix + contentHash() + "-" + sheetKey + ".bin");
+    }
+
+    private String contentHash() {
+        if (contentHash == null) {
+            try (InputStream inputStream = Files.newInputStream(source.toPath())) {
+                MessageDigest digest = MessageDigest.getInstance("SHA-256");
+                byte[] chunk = new byte[64 * 1024];
+                int read;
+                while ((read = inputStream.read(chunk)) != -1) {
+                    digest.update(chunk, 0, read);
+                }
+                contentHash = HexFormat.of().formatHex(digest.digest());
+            } catch (IOException | NoSuchAlgorithmException e) {
+                throw new RuntimeException("Error hashing Excel file: " + source, e);
+            }
+        }
+        return contentHash;
+    }
+
+    private static String canonicalPath(File file) {
+        try {
+            return file.getCanonicalPath();
+        } catch (IOException e) {
+            return file.getAbsolutePath();
+        }
+    }
+
+    private static String sha256(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException("SHA-256 not available", e);
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(utf8.length);
+        out.write(utf8);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        byte[] utf8 = new byte[buffer.getInt()];
+        buffer.get(utf8);
+        return new String(utf8, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * A cached sheet; the string table is decoded up front, rows on access
+     */
+    static final class CachedSheet {
+        private final ByteBuffer buffer;
+        private final String[] strings;
+        private final int rowSlots;
+        private final int physicalRowCount;
+        private final int offsetTable;
+
+        CachedSheet(ByteBuffer buffer) {
+            this.buffer = buffer;
+            if (buffer.getInt() != SHEET_MAGIC || buffer.getInt() != VERSION) {
+                throw new IllegalArgumentException("Not an Excel cache entry of version " + VERSION);
+            }
+            strings = new String[buffer.getInt()];
+            for (int i = 0; i < strings.length; i++) {
+                strings[i] = readString(buffer);
+            }
+            rowSlots = buffer.getInt();
+            physicalRowCount = buffer.getInt();
+            offsetTable = buffer.position();
+            if (offsetTable + (long) rowSlots * Integer.BYTES > buffer.limit()) {
+                throw new IllegalArgumentException("Truncated row offset table");
+            }
+        }
+
+        /**
+         * Same as Sheet.getPhysicalNumberOfRows()
+         */
+        int getPhysicalRowCount() {
+            return physicalRowCount;
+        }
+
+        boolean hasRow(int rowIndex) {
+            return rowOffset(rowIndex) >= 0;
+        }
+
+        /**
+         * Same as Row.getPhysicalNumberOfCells(), 0 for a missing row
+         */
+        int getPhysicalCellCount(int rowIndex) {
+            int offset = rowOffset(rowIndex);
+            return offset >= 0 ? buffer.getInt(offset) : 0;
+        }
+
+        /**
+         * Cell value as ExcelReaderUtils converts it, "" for missing rows and cells
+         */
+        String getCell(int rowIndex, int columnIndex) {
+            int offset = rowOffset(rowIndex);
+            if (offset < 0 || columnIndex < 0 || columnIndex >= buffer.getInt(offset + Integer.BYTES)) {
+                return "";
+            }
+            return strings[buffer.getInt(offset + (2 + columnIndex) * Integer.BYTES)];
+        }
+
+        private int rowOffset(int rowIndex) {
+            if (rowIndex < 0 || rowIndex >= rowSlots) {
+                return -1;
+            }
+            return buffer.getInt(offsetTable + rowIndex * Integer.BYTES);
+        }
+    }
+}
@@ -0,0 +1,354 @@
+package org.example.utils;
+
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFCellStyle;
+import org.xml.sax.Attributes;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+import org.xml.sax.helpers.DefaultHandler;
+
+import javax.xml.parsers.ParserConfigurationException;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Streaming (SAX) reader for .xlsx sheets, used by {@link ExcelReaderUtils} for large files.
+ *
+ * The sheet XML is parsed on a background thread and each row is handed over through a bounded
+ * queue as soon as it is parsed, so memory stays bounded by the queue size no matter how many rows
+ * the sheet has. Cell values are converted the same way as the DOM mode of ExcelReaderUtils;
+ * formulas are not re-evaluated, their cached results are used.
+ */
+class ExcelStreamingReader {
+
+    private final File file;
+    private final int bufferRows;
+
+    ExcelStreamingReader(File file, int bufferRows) {
+        this.file = file;
+        this.bufferRows = Math.max(1, bufferRows);
+    }
+
+    /**
+     * Read the sheet names from the workbook part only, without parsing any sheet
+     */
+    List<String> getSheetNames() {
+        OPCPackage pkg = openPackage();
+        try {
+            List<String> names = new ArrayList<>();
+            XSSFReader.SheetIterator sheets = (XSSFReader.SheetIterator) new XSSFReader(pkg).getSheetsData();
+            while (sheets.hasNext()) {
+                sheets.next().close();
+                names.add(sheets.getSheetName());
+            }
+            return names;
+        } catch (IOException | OpenXML4JException e) {
+            throw new RuntimeException("Error reading sheet names from Excel file: " + file, e);
+        } finally {
+            pkg.revert();
+        }
+    }
+
+    /**
+     * Start parsing a sheet in the background
+     * @param sheetName Name of the sheet
+     * @return Iterator over the physical rows of the sheet (header row included); close it to stop parsing early
+     */
+    RowIterator openRows(String sheetName) {
+        RowIterator rows = new RowIterator(sheetName);
+        Thread parser = new Thread(rows::parse, "excel-stream-" + file.getName());
+        parser.setDaemon(true);
+        parser.start();
+        return rows;
+    }
+
+    private OPCPackage openPackage() {
+        try {
+            return OPCPackage.open(file, PackageAccess.READ);
+        } catch (OpenXML4JException e) {
+            throw new RuntimeException("Error reading Excel file: " + file, e);
+        }
+    }
+
+    /**
+     * Rows of one sheet, produced by a parser thread and consumed through a bounded queue
+     */
+    class RowIterator implements Iterator<List<String>>, AutoCloseable {
+        private final List<String> endOfSheet = new ArrayList<>();
+        private final String sheetName;
+        private final BlockingQueue<List<String>> queue = new ArrayBlockingQueue<>(bufferRows);
+        private volatile boolean closed;
+        private volatile RuntimeException failure;
+        private List<String> next;
+
+        RowIterator(String sheetName) {
+            this.sheetName = sheetName;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (next == null) {
+                next = take();
+            }
+            return next != endOfSheet;
+        }
+
+        @Override
+        public List<String> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("No more rows in sheet '" + sheetName + "'");
+            }
+            List<String> row = next;
+            next = null;
+            return row;
+        }
+
+        /**
+         * Stop the parser thread; rows not consumed yet are discarded
+         */
+        @Override
+        public void close() {
+            closed = true;
+            queue.clear();
+            next = endOfSheet;
+        }
+
+        private List<String> take() {
+            try {
+                List<String> row = queue.take();
+                if (row == endOfSheet && failure != null) {
+                    throw failure;
+                }
+                return row;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException("Interrupted while reading sheet '" + sheetName + "'", e);
+            }
+        }
+
+        /**
+         * Parser thread body; hands each completed row to the consumer
+         */
+        private void parse() {
+            OPCPackage pkg = null;
+            try {
+                pkg = openPackage();
+                XSSFReader reader = new XSSFReader(pkg);
+                ReadOnlySharedStringsTable sharedStrings = new ReadOnlySharedStringsTable(pkg);
+                StylesTable styles = reader.getStylesTable();
+                try (InputStream sheetData = findSheet(reader)) {
+                    XMLReader xmlReader = XMLHelper.newXMLReader();
+                    xmlReader.setContentHandler(new SheetHandler(sharedStrings, styles, this::publish));
+                    xmlReader.parse(new InputSource(sheetData));
+                }
+            } catch (IOException | SAXException | OpenXML4JException | ParserConfigurationException e) {
+                if (!closed) {
+                    failure = new RuntimeException("Error streaming sheet '" + sheetName + "' from Excel file: " + file, e);
+                }
+            } catch (RuntimeException e) {
+                // StopParsingException just means the consumer closed the iterator
+                if (!closed) {
+                    failure = e;
+                }
+            } finally {
+                if (pkg != null) {
+                    pkg.revert();
+                }
+                publishEnd();
+            }
+        }
+
+        private InputStream findSheet(XSSFReader reader) throws IOException, OpenXML4JException {
+            XSSFReader.SheetIterator sheets = (XSSFReader.SheetIterator) reader.getSheetsData();
+            while (sheets.hasNext()) {
+                InputStream sheetData = sheets.next();
+                if (sheets.getSheetName().equals(sheetName)) {
+                    return sheetData;
+                }
+                sheetData.close();
+            }
+            throw new RuntimeException("Sheet '" + sheetName + "' not found in the Excel file");
+        }
+
+        private void publish(List<String> row) {
+            try {
+                while (!queue.offer(row, 100, TimeUnit.MILLISECONDS)) {
+                    if (closed) {
+                        throw new StopParsingException();
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new StopParsingException();
+            }
+            if (closed) {
+                throw new StopParsingException();
+            }
+        }
+
+        private void publishEnd() {
+            try {
+                while (!closed && !queue.offer(endOfSheet, 100, TimeUnit.MILLISECONDS)) {
+                    // Wait until the consumer made room or went away
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Thrown inside the parser thread to abort SAX parsing once the consumer is gone
+     */
+    private static class StopParsingException extends RuntimeException {
+        StopParsingException() {
+            super(null, null, false, false);
+        }
+    }
+
+    /**
+     * Minimal SAX handler for sheet XML: collects &lt;c&gt; values of each &lt;row&gt; by column position
+     */
+    private static class SheetHandler extends DefaultHandler {
+        private final ReadOnlySharedStringsTable sharedStrings;
+        private final StylesTable styles;
+        private final Consumer<List<String>> rowConsumer;
+
+        private final StringBuilder value = new StringBuilder();
+        private List<String> row;
+        private int column;
+        private String cellType;
+        private String cellStyle;
+        private boolean hasFormula;
+        private boolean inValue;
+
+        SheetHandler(ReadOnlySharedStringsTable sharedStrings, StylesTable styles,
+                     Consumer<List<String>> rowConsumer) {
+            this.sharedStrings = sharedStrings;
+            this.styles = styles;
+            this.rowConsumer = rowConsumer;
+        }
+
+        @Override
+        public void startElement(String uri, String localName, String qName, Attributes attributes) {
+            switch (elementName(localName, qName)) {
+                case "row":
+                    row = new ArrayList<>();
+                    break;
+                case "c":
+                    String reference = attributes.getValue("r");
+                    column = reference != null ? new CellReference(reference).getCol() : row.size();
+                    cellType = attributes.getValue("t");
+                    cellStyle = attributes.getValue("s");
+                    hasFormula = false;
+                    value.setLength(0);
+                    break;
+                case "f":
+                    hasFormula = true;
+                    break;
+                case "v":
+                case "t":
+                    inValue = true;
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        @Override
+        public void endElement(String uri, String localName, String qName) {
+            switch (elementName(localName, qName)) {
+                case "v":
+                case "t":
+                    inValue = false;
+                    break;
+                case "c":
+                    while (row.size() < column) {
+                        row.add("");
+                    }
+                    row.add(formatValue(value.toString()));
+                    break;
+                case "row":
+                    rowConsumer.accept(row);
+                    row = null;
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        @Override
+        public void characters(char[] ch, int start, int length) {
+            if (inValue) {
+                value.append(ch, start, length);
+            }
+        }
+
+        private static String elementName(String localName, String qName) {
+            if (localName != null && !localName.isEmpty()) {
+                return localName;
+            }
+            return qName.substring(qName.indexOf(':') + 1);
+        }
+
+        /**
+         * Same conversion rules as ExcelReaderUtils.getCellValueAsString() in DOM mode
+         */
+        private String formatValue(String raw) {
+            if (raw.isEmpty()) {
+                return "";
+            }
+            if (cellType == null || "n".equals(cellType)) {
+                double numericValue = Double.parseDouble(raw);
+                if (hasFormula) {
+                    return String.valueOf(numericValue);
+                }
+                if (isDateFormatted()) {
+                    return DateUtil.getJavaDate(numericValue).toString();
+                }
+                // Remove decimal if it's a whole number
+                if (numericValue == (long) numericValue) {
+                    return String.valueOf((long) numericValue);
+                }
+                return String.valueOf(numericValue);
+            }
+            switch (cellType) {
+                case "s":
+                    return sharedStrings.getItemAt(Integer.parseInt(raw)).getString();
+                case "b":
+                    return String.valueOf("1".equals(raw));
+                case "e":
+                    return "";
+                default:
+                    // inlineStr and str (formula string result)
+                    return raw;
+            }
+        }
+
+        private boolean isDateFormatted() {
+            if (cellStyle == null || styles == null) {
+                return false;
+            }
+            XSSFCellStyle style = styles.getStyleAt(Integer.parseInt(cellStyle));
+            return style != null && DateUtil.isADateFormat(style.getDataFormat(), style.getDataFormatString());
+        }
+    }
+}
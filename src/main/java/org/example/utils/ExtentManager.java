@@ -1,28 +1,107 @@
 package org.example.utils;
 
-import com.aventstack.extentreports.ExtentReports;
-import com.aventstack.extentreports.reporter.ExtentSparkReporter;
-import com.aventstack.extentreports.reporter.configuration.Theme;
+import com.aventstack.extentreports.Status;
 
-public class ExtentManager{
+import java.nio.file.Paths;
+import java.util.concurrent.atomic.AtomicLong;
 
-    private static ExtentReports extent;
+/**
+ * Entry point for the Extent report. Calls only queue an event and return; a single background
+ * writer builds and flushes the report (see {@link ExtentReportWriter}), so test threads never wait
+ * for report rendering and the report never holds more than report.max.tests.in.memory tests.
+ * After {@link #shutdown()} all calls are ignored, so a late listener cannot overwrite the finished
+ * report with an empty one.
+ *
+ * Usage Example:
+ * <pre>
+ * long testId = ExtentManager.startTest("testGoogleTitle");
+ * ExtentManager.log(testId, Status.PASS, "Test passed");
+ * ExtentManager.endTest(testId);
+ * </pre>
+ */
+public class ExtentManager {
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 120_000;
+    private static final AtomicLong testIds = new AtomicLong();
+    private static ExtentReportWriter writer;
+    private static boolean closed;
+    private static boolean lateCallReported;
 
-    public static ExtentReports getExtentReports() {
+    /**
+     * The writer, or null after shutdown
+     */
+    private static synchronized ExtentReportWriter getWriter() {
+        if (closed) {
+            if (!lateCallReported) {
+                lateCallReported = true;
+                System.out.println("Extent report already written, ignoring report calls after shutdown");
+            }
+            return null;
+        }
+        if (writer == null) {
+            ConfigReaderUtils config = ConfigReaderUtils.getInstance();
+            writer = new ExtentReportWriter(
+                    Paths.get(System.getProperty("user.dir"), "target", "ExtentReports", "extent-report.html"),
+                    config.getReportQueueCapacity(), config.getReportFlushInterval(),
+                    config.getReportMaxTestsInMemory());
+        }
+        return writer;
+    }
 
-        if (extent == null) {
-            ExtentSparkReporter reporter = new ExtentSparkReporter(System.getProperty("user.dir") + "/target/ExtentReports/extent-report.html");
-            reporter.config().setReportName("Playwright Automation Report");
-            reporter.config().setDocumentTitle("Playwright Automation Report");
-            reporter.config().setTheme(Theme.DARK);
+    /**
+     * Start a test entry; its logs are added to the report when the test ends
+     * @return Id of the test for log() and endTest()
+     */
+    public static long startTest(String testName) {
+        long testId = testIds.incrementAndGet();
+        ExtentReportWriter current = getWriter();
+        if (current != null) {
+            current.startTest(testId, testName);
+        }
+        return testId;
+    }
 
-            extent = new ExtentReports();
-            extent.attachReporter(reporter);
-            extent.setSystemInfo("Environment", "QA");
-            extent.setSystemInfo("Author", "Lead SDET");
+    public static void log(long testId, Status status, String details) {
+        ExtentReportWriter current = getWriter();
+        if (current != null) {
+            current.log(testId, status, details);
         }
+    }
 
-        return extent;
+    public static void endTest(long testId) {
+        ExtentReportWriter current = getWriter();
+        if (current != null) {
+            current.endTest(testId);
+        }
     }
 
-}
\ No newline at end of file
+    /**
+     * Add a standalone entry, e.g. a summary table (details may contain HTML)
+     */
+    public static void addEntry(String name, Status status, String details) {
+        ExtentReportWriter current = getWriter();
+        if (current != null) {
+            current.addEntry(name, status, details);
+        }
+    }
+
+    /**
+     * Ask the writer to flush the report soon, without waiting for it
+     */
+    public static void flush() {
+        ExtentReportWriter current = getWriter();
+        if (current != null) {
+            current.requestFlush();
+        }
+    }
+
+    /**
+     * Write out everything reported so far and stop the writer; call once at the end of the suite
+     */
+    public static synchronized void shutdown() {
+        closed = true;
+        if (writer != null) {
+            writer.shutdown(SHUTDOWN_TIMEOUT_MILLIS);
+            writer = null;
+        }
+    }
+}
@@ -0,0 +1,274 @@
+package org.example.utils;
+
+import com.aventstack.extentreports.ExtentReports;
+import com.aventstack.extentreports.ExtentTest;
+import com.aventstack.extentreports.Status;
+import com.aventstack.extentreports.reporter.ExtentSparkReporter;
+import com.aventstack.extentreports.reporter.configuration.Theme;
+import org.example.metrics.StepMetrics;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Single writer thread behind {@link ExtentManager}; the only thread that touches the Extent API.
+ *
+ * Test threads publish events into a bounded queue. A test's logs are buffered until it ends and are
+ * then added to the report in one go, so the report only ever holds finished tests. The report is
+ * flushed every report.flush.interval.ms while there are changes. Once report.max.tests.in.memory
+ * finished tests are held, the current report is written out as extent-report-part-N.html and a new
+ * one is started, so memory stays bounded no matter how long the suite is. Logs that arrive for a
+ * test already written to an earlier part (e.g. links added in an @AfterMethod) go to a
+ * "(continued)" entry of the same test in the current part.
+ *
+ * Publishing only blocks when the queue is full; those stalls are counted and their duration is
+ * recorded in {@link StepMetrics} as "report: publish stall".
+ */
+class ExtentReportWriter {
+    private final Path reportFile;
+    private final long flushIntervalMillis;
+    private final int maxTestsInMemory;
+    private final BlockingQueue<Runnable> queue;
+    private final Thread thread;
+
+    private final AtomicLong published = new AtomicLong();
+    private final AtomicLong stalls = new AtomicLong();
+    private final AtomicLong maxQueueDepth = new AtomicLong();
+
+    // Only used by the writer thread
+    private final Map<Long, PendingTest> pendingTests = new HashMap<>();
+    private final Map<Long, ExtentTest> reportedTests = new HashMap<>();
+    // Names of the tests written to earlier parts, by test id
+    private final Map<Long, String> earlierTests = new HashMap<>();
+    private final List<String> earlierParts = new ArrayList<>();
+    private ExtentReports extent;
+    private boolean dirty;
+    private long lastFlush = System.nanoTime();
+    private long lateLogsDropped;
+    private volatile boolean running = true;
+
+    ExtentReportWriter(Path reportFile, int queueCapacity, long flushIntervalMillis, int maxTestsInMemory) {
+        this.reportFile = reportFile;
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.maxTestsInMemory = Math.max(1, maxTestsInMemory);
+        this.queue = new ArrayBlockingQueue<>(Math.max(16, queueCapacity));
+        this.extent = newReport();
+        this.thread = new Thread(this::run, "extent-report-writer");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    void startTest(long testId, String name) {
+        long startMillis = System.currentTimeMillis();
+        publish(() -> pendingTests.put(testId, new PendingTest(name, startMillis)));
+    }
+
+    void log(long testId, Status status, String details) {
+        publish(() -> {
+            PendingTest pending = pendingTests.get(testId);
+            if (pending != null) {
+                pending.logs.add(new LogEntry(status, details));
+                return;
+            }
+            // Logged after the test ended, e.g. from an @AfterMethod
+            ExtentTest test = reportedTests.get(testId);
+            if (test == null && earlierTests.containsKey(testId)) {
+                // The test was written to an earlier part; continue it in the current one
+                test = extent.createTest(earlierTests.get(testId) + " (continued)");
+                reportedTests.put(testId, test);
+            }
+            if (test != null) {
+                test.log(status, details);
+                dirty = true;
+            } else {
+                lateLogsDropped++;
+            }
+        });
+    }
+
+    void endTest(long testId) {
+        long endMillis = System.currentTimeMillis();
+        publish(() -> {
+            PendingTest pending = pendingTests.remove(testId);
+            if (pending != null) {
+                ExtentTest test = extent.createTest(pending.name);
+                test.getModel().setStartTime(new Date(pending.startMillis));
+                for (LogEntry entry : pending.logs) {
+                    test.log(entry.status, entry.details);
+                }
+                test.getModel().setEndTime(new Date(endMillis));
+                reportedTests.put(testId, test);
+                dirty = true;
+                if (reportedTests.size() >= maxTestsInMemory) {
+                    rotate();
+                }
+            }
+        });
+    }
+
+    /**
+     * Add an entry that is not a test, e.g. a summary table
+     */
+    void addEntry(String name, Status status, String details) {
+        publish(() -> {
+            extent.createTest(name).log(status, details);
+            dirty = true;
+        });
+    }
+
+    /**
+     * Ask for a flush and return without waiting for it
+     */
+    CompletableFuture<Void> requestFlush() {
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        publish(() -> {
+            flushReport();
+            done.complete(null);
+        });
+        return done;
+    }
+
+    /**
+     * Write everything published so far and stop the writer thread
+     */
+    void shutdown(long timeoutMillis) {
+        try {
+            requestFlush().get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (Exception e) {
+            System.out.println("Extent report writer did not finish within " + timeoutMillis + " ms: " + e);
+        }
+        running = false;
+        thread.interrupt();
+        System.out.println("Extent report events: " + published.get() + " published, max queue depth "
+                + maxQueueDepth.get() + ", " + stalls.get() + " publish stalls"
+                + (earlierParts.isEmpty() ? "" : ", earlier parts: " + earlierParts));
+    }
+
+    private void publish(Runnable event) {
+        if (!running) {
+            return;
+        }
+        published.incrementAndGet();
+        if (!queue.offer(event)) {
+            // Writer fell behind: wait for room instead of growing without bound
+            stalls.incrementAndGet();
+            long start = System.nanoTime();
+            try {
+                queue.put(event);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                StepMetrics.record("report: publish stall", System.nanoTime() - start);
+            }
+        }
+        maxQueueDepth.accumulateAndGet(queue.size(), Math::max);
+    }
+
+    private void run() {
+        while (running || !queue.isEmpty()) {
+            try {
+                Runnable event = queue.poll(flushIntervalMillis, TimeUnit.MILLISECONDS);
+                if (event != null) {
+                    event.run();
+                }
+                if (dirty && System.nanoTime() - lastFlush >= TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis)) {
+                    flushReport();
+                }
+            } catch (InterruptedException e) {
+                if (running) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            } catch (RuntimeException e) {
+                // A broken entry must not stop reporting for the rest of the suite
+                System.out.println("Extent report writer error: " + e);
+            }
+        }
+    }
+
+    private void flushReport() {
+        extent.flush();
+        dirty = false;
+        lastFlush = System.nanoTime();
+        if (lateLogsDropped > 0) {
+            System.out.println("Extent report: " + lateLogsDropped
+                    + " log entries dropped for tests that were never started");
+            lateLogsDropped = 0;
+        }
+    }
+
+    /**
+     * Write the current report out as the next part and continue in a fresh one
+     */
+    private void rotate() {
+        extent.flush();
+        Path part = reportFile.resolveSibling(stripExtension(reportFile.getFileName().toString())
+                + "-part-" + (earlierParts.size() + 1) + ".html");
+        try {
+            Files.move(reportFile, part, StandardCopyOption.REPLACE_EXISTING);
+            earlierParts.add(part.getFileName().toString());
+        } catch (IOException e) {
+            System.out.println("Could not keep Extent report part " + part + ": " + e.getMessage());
+        }
+        reportedTests.forEach((testId, test) -> earlierTests.put(testId, test.getModel().getName()));
+        reportedTests.clear();
+        extent = newReport();
+        dirty = false;
+        lastFlush = System.nanoTime();
+    }
+
+    private ExtentReports newReport() {
+        ExtentSparkReporter reporter = new ExtentSparkReporter(reportFile.toString());
+        reporter.config().setReportName("Playwright Automation Report");
+        reporter.config().setDocumentTitle("Playwright Automation Report");
+        reporter.config().setTheme(Theme.DARK);
+
+        ExtentReports report = new ExtentReports();
+        report.attachReporter(reporter);
+        report.setSystemInfo("Environment", "QA");
+        report.setSystemInfo("Author", "Lead SDET");
+        if (!earlierParts.isEmpty()) {
+            report.setSystemInfo("Earlier parts", String.join(", ", earlierParts));
+        }
+        return report;
+    }
+
+    private static String stripExtension(String fileName) {
+        int dot = fileName.lastIndexOf('.');
+        return dot > 0 ? fileName.substring(0, dot) : fileName;
+    }
+
+    private static final class PendingTest {
+        private final String name;
+        private final long startMillis;
+        private final List<LogEntry> logs = new ArrayList<>();
+
+        PendingTest(String name, long startMillis) {
+            this.name = name;
+            this.startMillis = startMillis;
+        }
+    }
+
+    private static final class LogEntry {
+        private final Status status;
+        private final String details;
+
+        LogEntry(Status status, String details) {
+            this.status = status;
+            this.details = details;
+        }
+    }
+}
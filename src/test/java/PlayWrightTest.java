@@ -1,43 +1,33 @@
-import com.microsoft.playwright.Browser;
-import com.microsoft.playwright.BrowserType;
 import com.microsoft.playwright.Page;
-import com.microsoft.playwright.Playwright;
 import io.qameta.allure.*;
+import org.example.browser.BrowserSessionManager;
+import org.example.browser.JourneyStateCache;
 import org.example.utils.ConfigReaderUtils;
 import org.example.pages.AmazonHomePage;
 import org.example.pages.AmazonProductPage;
 import org.example.pages.AmazonSearchResultsPage;
 import org.example.pages.GooglePage;
 import org.testng.Assert;
+import org.testng.ITestResult;
 import org.testng.annotations.AfterMethod;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
+import java.lang.reflect.Method;
+
 /**
  * PlayWright Test class using Page Object Model design pattern
+ *
+ * Playwright objects are kept per thread by BrowserSessionManager, so the class is safe to run
+ * with parallel="methods".
  */
 public class PlayWrightTest {
 
-    private Playwright playwright;
-    private Browser browser;
-    private Page page;
-
     @BeforeMethod
-    public void setUp() {
-        // Initialize Playwright
-        playwright = Playwright.create();
-
-        // Check if running in CI/CD (headless mode)
-        boolean isHeadless = System.getenv("HEADLESS") != null &&
-                            System.getenv("HEADLESS").equalsIgnoreCase("true");
-
-        // Launch Chrome browser
-        browser = playwright.chromium().launch(
-            new BrowserType.LaunchOptions().setHeadless(isHeadless)
-        );
-
-        // Create a new page
-        page = browser.newPage();
+    public void setUp(Method method) {
+        // Lease a warm browser from the shared pool with a fresh context and page for this thread;
+        // the session is named after the test so -Dhar.mode=record/replay uses one archive per test
+        BrowserSessionManager.startSession(method);
     }
 
     @Test
@@ -47,6 +37,8 @@ public class PlayWrightTest {
     @Description("This test verifies that the Google homepage displays the correct page title")
     @Severity(SeverityLevel.CRITICAL)
     public void testGoogleTitle() {
+        Page page = BrowserSessionManager.getPage();
+
         // Using Page Object Model
         GooglePage googlePage = new GooglePage(page);
 
@@ -79,21 +71,20 @@ public class PlayWrightTest {
         // Using Page Object Model
         System.out.println("mobile cart testcases started ");
         ConfigReaderUtils config = ConfigReaderUtils.getInstance();
-
-        // Step 1: Navigate to Amazon homepage
-        Allure.step("Navigate to Amazon homepage", () -> {
-            AmazonHomePage amazonHomePage = new AmazonHomePage(page);
-            amazonHomePage.navigate();
+        String query = config.getMotorolaSearchQuery();
+
+        // Steps 1-2: Navigate to Amazon homepage and search for "motorola" (getting search query from config);
+        // later tests on the same query, site and config profile start from the cached search results instead
+        String journey = "amazon-search:" + config.getConfigProfile() + ":"
+                + config.getAmazonUrl() + ":" + query;
+        Page page = Allure.step("Open search results for product: " + query, () -> {
+            return JourneyStateCache.getInstance().startFrom(journey, journeyPage -> {
+                AmazonHomePage amazonHomePage = new AmazonHomePage(journeyPage);
+                amazonHomePage.navigate();
+                amazonHomePage.search(query);
+            });
         });
-
-        // Step 2: Search for "motorola" (getting search query from config)
-        AmazonSearchResultsPage searchResultsPage = Allure.step(
-            "Search for product: " + config.getMotorolaSearchQuery(),
-            () -> {
-                AmazonHomePage amazonHomePage = new AmazonHomePage(page);
-                return amazonHomePage.search(config.getMotorolaSearchQuery());
-            }
-        );
+        AmazonSearchResultsPage searchResultsPage = new AmazonSearchResultsPage(page);
 
         // Step 3: Click on the first search result
         AmazonProductPage productPage = Allure.step("Click on the first search result", () -> {
@@ -114,14 +105,9 @@ public class PlayWrightTest {
         System.out.println("Test passed! Mobile added to cart successfully");
     }
 
-    @AfterMethod
-    public void tearDown() {
-        // Close browser and playwright
-        if (browser != null) {
-          //  browser.close();
-        }
-        if (playwright != null) {
-            playwright.close();
-        }
+    @AfterMethod(alwaysRun = true)
+    public void tearDown(ITestResult result) {
+        // Close the context and return the browser to the pool; the trace is kept if the test failed
+        BrowserSessionManager.endSession(result);
     }
 }
\ No newline at end of file
@@ -0,0 +1,102 @@
+package org.example.benchmarks;
+
+import com.microsoft.playwright.Page;
+import org.example.browser.BrowserPool;
+import org.example.browser.BrowserSession;
+import org.example.pages.AmazonProductPage;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Compares the old full-DOM cart check (page.content().toLowerCase().contains(...)) with the
+ * in-browser {@link AmazonProductPage#verifyItemAddedToCart()} on a large local product page.
+ *
+ * Usage Example:
+ * <pre>
+ * java -cp "target/test-classes:target/classes:&lt;dependencies&gt;" \
+ *     org.example.benchmarks.CartVerificationBenchmark [pageSizeMb] [iterations]
+ * </pre>
+ * Prints the average latency and the bytes allocated on the test thread per check.
+ */
+public class CartVerificationBenchmark {
+
+    public static void main(String[] args) throws IOException {
+        int pageSizeMb = args.length > 0 ? Integer.parseInt(args[0]) : 5;
+        int iterations = args.length > 1 ? Integer.parseInt(args[1]) : 20;
+        System.setProperty("browser.headless", "true");
+
+        Path fixture = writeLargeProductPage(pageSizeMb);
+        try (BrowserSession session = BrowserPool.getInstance().acquire()) {
+            Page page = session.getPage();
+            page.navigate(fixture.toUri().toString());
+            AmazonProductPage productPage = new AmazonProductPage(page).addToCart();
+
+            // Warm up both paths before measuring
+            measure("warm-up", 3, () -> fullDomCheck(page));
+            measure("warm-up", 3, productPage::verifyItemAddedToCart);
+
+            System.out.println("Product page size: " + pageSizeMb + " MB, iterations: " + iterations);
+            measure("page.content() scan", iterations, () -> fullDomCheck(page));
+            measure("in-browser check", iterations, productPage::verifyItemAddedToCart);
+        } finally {
+            BrowserPool.shutdownInstance();
+            Files.deleteIfExists(fixture);
+        }
+    }
+
+    /**
+     * The previous implementation of verifyItemAddedToCart()
+     */
+    private static boolean fullDomCheck(Page page) {
+        String pageContent = page.content().toLowerCase();
+        return pageContent.contains("added to cart") ||
+               pageContent.contains("added to your cart") ||
+               page.locator("#nav-cart-count").isVisible();
+    }
+
+    private static void measure(String name, int iterations, BooleanSupplier check) {
+        com.sun.management.ThreadMXBean threadBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+
+        long allocatedBefore = threadBean.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            if (!check.getAsBoolean()) {
+                throw new IllegalStateException(name + " did not find the cart confirmation");
+            }
+        }
+        long elapsedNanos = System.nanoTime() - start;
+        long allocated = threadBean.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+        if (!"warm-up".equals(name)) {
+            System.out.println(String.format("%-22s avg %8.2f ms, %10.1f KB allocated per check",
+                    name, elapsedNanos / 1_000_000.0 / iterations, allocated / 1024.0 / iterations));
+        }
+    }
+
+    /**
+     * The product fixture padded with product description sections up to the requested size.
+     * The confirmation only appears after the click, at the end of the document.
+     */
+    private static Path writeLargeProductPage(int sizeMb) throws IOException {
+        String fixture = new String(Files.readAllBytes(FixturePages.path("amazon/product.html")), StandardCharsets.UTF_8);
+        StringBuilder filler = new StringBuilder();
+        int section = 0;
+        while (filler.length() < sizeMb * 1024 * 1024) {
+            filler.append("<div class=\"a-section feature\" id=\"feature-").append(section++).append("\">")
+                    .append("<span class=\"a-list-item\">Octa-core processor, 120Hz pOLED display, ")
+                    .append("50MP camera with optical image stabilisation and 68W TurboPower charging.</span>")
+                    .append("</div>\n");
+        }
+        String page = fixture.replace("<div id=\"attach-confirmation\"", filler + "<div id=\"attach-confirmation\"");
+        Path file = Files.createTempFile("large-product-page", ".html");
+        Files.write(file, page.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+}
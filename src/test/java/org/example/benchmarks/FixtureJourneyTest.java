@@ -0,0 +1,56 @@
+package org.example.benchmarks;
+
+import com.microsoft.playwright.Page;
+import org.example.browser.BrowserSessionManager;
+import org.example.pages.AmazonHomePage;
+import org.example.pages.AmazonProductPage;
+import org.example.pages.GooglePage;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * The Google and Amazon journeys from PlayWrightTest, run against the local fixture pages.
+ * Used by {@link ParallelExecutionBenchmark}; the number of journeys is set with -Dbenchmark.journeys.
+ */
+public class FixtureJourneyTest {
+
+    @DataProvider(name = "journeys", parallel = true)
+    public Object[][] journeys() {
+        int journeys = Integer.getInteger("benchmark.journeys", 8);
+        Object[][] data = new Object[journeys][1];
+        for (int i = 0; i < journeys; i++) {
+            data[i][0] = i;
+        }
+        return data;
+    }
+
+    @BeforeMethod
+    public void setUp() {
+        BrowserSessionManager.startSession();
+    }
+
+    @Test(dataProvider = "journeys")
+    public void googleTitleJourney(int journey) {
+        GooglePage googlePage = new GooglePage(BrowserSessionManager.getPage()).navigate();
+        Assert.assertEquals(googlePage.getPageTitle(), googlePage.getExpectedTitle());
+    }
+
+    @Test(dataProvider = "journeys")
+    public void addToCartJourney(int journey) {
+        Page page = BrowserSessionManager.getPage();
+        AmazonProductPage productPage = new AmazonHomePage(page)
+                .navigate()
+                .search("motorola")
+                .clickFirstSearchResult()
+                .addProductToCart();
+        Assert.assertTrue(productPage.verifyItemAddedToCart(), "Journey " + journey + " did not add to cart");
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void tearDown() {
+        BrowserSessionManager.endSession();
+    }
+}
@@ -0,0 +1,46 @@
+package org.example.benchmarks;
+
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Resolves the local fixture pages under src/test/resources/fixtures so journeys
+ * can run against them instead of the live sites.
+ */
+public final class FixturePages {
+
+    private FixturePages() {
+    }
+
+    /**
+     * Get a file:// URL for a fixture resource, e.g. "amazon/index.html"
+     */
+    public static String url(String fixturePath) {
+        return path(fixturePath).toUri().toString();
+    }
+
+    /**
+     * Get the file system path of a fixture resource, e.g. "amazon/product.html"
+     */
+    public static Path path(String fixturePath) {
+        URL resource = FixturePages.class.getClassLoader().getResource("fixtures/" + fixturePath);
+        if (resource == null) {
+            throw new RuntimeException("Fixture not found in classpath: fixtures/" + fixturePath);
+        }
+        try {
+            return Paths.get(resource.toURI());
+        } catch (URISyntaxException e) {
+            throw new RuntimeException("Invalid fixture location: " + resource, e);
+        }
+    }
+
+    /**
+     * Point google.url and amazon.url at the local fixture pages
+     */
+    public static void redirectConfigUrls() {
+        System.setProperty("google.url", url("google/index.html"));
+        System.setProperty("amazon.url", url("amazon/index.html"));
+    }
+}
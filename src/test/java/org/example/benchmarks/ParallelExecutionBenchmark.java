@@ -0,0 +1,103 @@
+package org.example.benchmarks;
+
+import org.example.browser.BrowserPool;
+import org.testng.TestNG;
+import org.testng.xml.XmlClass;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Measures suite wall-clock time of {@link FixtureJourneyTest} at 1..N threads against the
+ * local fixture pages and prints the speedup over the single-threaded run.
+ *
+ * Usage Example:
+ * <pre>
+ * java -cp "target/test-classes:target/classes:&lt;dependencies&gt;" \
+ *     -Dbenchmark.journeys=16 org.example.benchmarks.ParallelExecutionBenchmark 1 2 4 8
+ * </pre>
+ * Without arguments the thread counts 1, 2, 4, ... up to the number of cores are measured.
+ */
+public class ParallelExecutionBenchmark {
+
+    public static void main(String[] args) {
+        List<Integer> threadCounts = parseThreadCounts(args);
+        FixturePages.redirectConfigUrls();
+        System.setProperty("browser.headless", "true");
+        System.setProperty("parallel.mode", "methods");
+
+        // Warm-up run so class loading and the Playwright driver extraction are not measured
+        runSuite(1);
+
+        Map<Integer, Long> results = new LinkedHashMap<>();
+        for (int threads : threadCounts) {
+            long elapsed = runSuite(threads);
+            results.put(threads, elapsed);
+            System.out.println("Threads: " + threads + ", suite time: " + elapsed + " ms");
+        }
+        printSummary(results);
+    }
+
+    private static long runSuite(int threads) {
+        System.setProperty("parallel.thread.count", String.valueOf(threads));
+        System.setProperty("browser.pool.size", String.valueOf(threads));
+
+        XmlSuite suite = new XmlSuite();
+        suite.setName("Parallel Benchmark (" + threads + " threads)");
+        suite.setParallel(XmlSuite.ParallelMode.METHODS);
+        suite.setThreadCount(threads);
+        suite.setDataProviderThreadCount(threads);
+
+        XmlTest test = new XmlTest(suite);
+        test.setName("Fixture Journeys");
+        test.setXmlClasses(Collections.singletonList(new XmlClass(FixtureJourneyTest.class)));
+
+        TestNG testNG = new TestNG();
+        testNG.setUseDefaultListeners(false);
+        testNG.setVerbose(0);
+        testNG.setXmlSuites(Collections.singletonList(suite));
+
+        long start = System.nanoTime();
+        testNG.run();
+        long elapsed = (System.nanoTime() - start) / 1_000_000;
+
+        BrowserPool.shutdownInstance();
+        if (testNG.hasFailure()) {
+            throw new RuntimeException("Benchmark suite failed with " + threads + " threads");
+        }
+        return elapsed;
+    }
+
+    private static List<Integer> parseThreadCounts(String[] args) {
+        List<Integer> threadCounts = new ArrayList<>();
+        for (String arg : args) {
+            threadCounts.add(Integer.parseInt(arg.trim()));
+        }
+        if (threadCounts.isEmpty()) {
+            int cores = Runtime.getRuntime().availableProcessors();
+            for (int threads = 1; threads < cores; threads *= 2) {
+                threadCounts.add(threads);
+            }
+            threadCounts.add(cores);
+        }
+        return threadCounts;
+    }
+
+    private static void printSummary(Map<Integer, Long> results) {
+        long baseline = results.values().iterator().next();
+        int baselineThreads = results.keySet().iterator().next();
+        System.out.println();
+        System.out.println(String.format("%-8s %12s %10s %12s", "Threads", "Time (ms)", "Speedup", "Efficiency"));
+        for (Map.Entry<Integer, Long> entry : results.entrySet()) {
+            double speedup = (double) baseline / entry.getValue();
+            double efficiency = speedup / ((double) entry.getKey() / baselineThreads);
+            System.out.println(String.format("%-8d %12d %9.2fx %11.0f%%",
+                    entry.getKey(), entry.getValue(), speedup, efficiency * 100));
+        }
+    }
+}
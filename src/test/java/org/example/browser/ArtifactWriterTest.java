@@ -0,0 +1,130 @@
+package org.example.browser;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+/**
+ * JPEG encoding, skipping identical step screenshots, video handling and the disk budget of the
+ * background artifact writer (no browser needed)
+ */
+public class ArtifactWriterTest {
+
+    @Test
+    public void identicalConsecutiveFramesAreSkipped() throws IOException {
+        Path dir = Files.createTempDirectory("artifacts");
+        ArtifactWriter writer = new ArtifactWriter(dir, 10L * 1024 * 1024, 70, 64);
+        ArtifactWriter.TestArtifacts test = writer.startTest("cart journey");
+        byte[] red = png(Color.RED);
+        byte[] blue = png(Color.BLUE);
+
+        writer.frame(test, red, "AmazonHomePage.navigate");
+        writer.frame(test, red, "AmazonHomePage.search");
+        writer.frame(test, blue, "AmazonSearchResultsPage.clickFirstSearchResult");
+        writer.frame(test, red, "AmazonProductPage.addToCart");
+        writer.failure(test, blue);
+        writer.finish(test, null, false, null, null, null, null);
+        Assert.assertTrue(writer.awaitPending(10_000));
+
+        Assert.assertEquals(writer.getFramesWritten(), 3);
+        Assert.assertEquals(writer.getFramesDeduplicated(), 1);
+        Assert.assertTrue(Files.exists(test.getDir().resolve("step-000-AmazonHomePage.navigate.jpg")));
+        Assert.assertFalse(Files.exists(test.getDir().resolve("step-001-AmazonHomePage.search.jpg")));
+        Assert.assertTrue(Files.exists(test.getDir().resolve("step-003-AmazonProductPage.addToCart.jpg")));
+        Assert.assertNotNull(ImageIO.read(test.getDir().resolve("failure.jpg").toFile()), "Failure screenshot is no JPEG");
+        String gallery = Files.readString(test.getDir().resolve("steps.html"));
+        Assert.assertTrue(gallery.contains("step-002-AmazonSearchResultsPage.clickFirstSearchResult.jpg"));
+    }
+
+    @Test
+    public void videosAreKeptOnlyWhenRequested() throws IOException {
+        Path dir = Files.createTempDirectory("artifacts");
+        ArtifactWriter writer = new ArtifactWriter(dir, 10L * 1024 * 1024, 70, 64);
+        Path passedVideo = Files.write(Files.createTempFile(dir, "passed", ".webm"), new byte[1024]);
+        Path failedVideo = Files.write(Files.createTempFile(dir, "failed", ".webm"), new byte[1024]);
+        ArtifactWriter.TestArtifacts passed = writer.startTest("passed");
+        ArtifactWriter.TestArtifacts failed = writer.startTest("failed");
+
+        writer.finish(passed, passedVideo, false, null, null, null, null);
+        writer.finish(failed, failedVideo, true, null, null, null, null);
+        Assert.assertTrue(writer.awaitPending(10_000));
+
+        Assert.assertFalse(Files.exists(passedVideo));
+        Assert.assertFalse(Files.exists(passed.getDir().resolve("video.webm")));
+        Assert.assertEquals(Files.size(failed.getDir().resolve("video.webm")), 1024);
+    }
+
+    @Test
+    public void artifactsBeyondDiskBudgetAreDropped() throws IOException {
+        Path dir = Files.createTempDirectory("artifacts");
+        byte[] red = png(Color.RED);
+        // Budget for about one frame
+        ArtifactWriter probe = new ArtifactWriter(Files.createTempDirectory("probe"), 10L * 1024 * 1024, 70, 64);
+        ArtifactWriter.TestArtifacts probeTest = probe.startTest("probe");
+        probe.frame(probeTest, red, "probe");
+        Assert.assertTrue(probe.awaitPending(10_000));
+        long frameSize = Files.size(probeTest.getDir().resolve("step-000-probe.jpg"));
+
+        ArtifactWriter writer = new ArtifactWriter(dir, frameSize + frameSize / 2, 70, 64);
+        ArtifactWriter.TestArtifacts test = writer.startTest("budget");
+        writer.frame(test, red, "first");
+        writer.frame(test, png(Color.GREEN), "second");
+        writer.frame(test, png(Color.BLUE), "third");
+        Assert.assertTrue(writer.awaitPending(10_000));
+
+        Assert.assertEquals(writer.getFramesWritten(), 1);
+        Assert.assertEquals(writer.getArtifactsDroppedDiskCap(), 2);
+    }
+
+    @Test
+    public void filesOfEarlierRunsDoNotCountAgainstBudget() throws IOException {
+        Path dir = Files.createTempDirectory("artifacts");
+        Files.write(dir.resolve("earlier-run.webm"), new byte[2 * 1024 * 1024]);
+
+        ArtifactWriter writer = new ArtifactWriter(dir, 1024 * 1024, 70, 64);
+        ArtifactWriter.TestArtifacts test = writer.startTest("after earlier runs");
+        writer.failure(test, png(Color.RED));
+        Assert.assertTrue(writer.awaitPending(10_000));
+
+        Assert.assertTrue(Files.exists(test.getDir().resolve("failure.jpg")));
+        Assert.assertEquals(writer.getArtifactsDroppedDiskCap(), 0);
+    }
+
+    @Test
+    public void testsWithoutArtifactsCreateNoDirectory() throws IOException {
+        Path dir = Files.createTempDirectory("artifacts");
+        ArtifactWriter writer = new ArtifactWriter(dir.resolve("run"), 1024 * 1024, 70, 64);
+        ArtifactWriter.TestArtifacts quiet = writer.startTest("quiet");
+        ArtifactWriter.TestArtifacts failed = writer.startTest("failed");
+        writer.failure(failed, png(Color.RED));
+        Assert.assertTrue(writer.awaitPending(10_000));
+
+        Assert.assertNull(quiet.getDir());
+        Assert.assertEquals(failed.getDir(), dir.resolve("run").resolve("failed-1"));
+        try (Stream<Path> entries = Files.list(dir.resolve("run"))) {
+            Assert.assertEquals(entries.count(), 1);
+        }
+    }
+
+    private static byte[] png(Color color) throws IOException {
+        BufferedImage image = new BufferedImage(64, 48, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D graphics = image.createGraphics();
+        graphics.setColor(color);
+        graphics.fillRect(0, 0, 64, 48);
+        graphics.setColor(Color.BLACK);
+        graphics.drawString("42", 10, 30);
+        graphics.dispose();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", bytes);
+        return bytes.toByteArray();
+    }
+}
@@ -0,0 +1,67 @@
+package org.example.dataproviders;
+
+import org.example.listeners.ExcelDataListener;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Listeners;
+import org.testng.annotations.Test;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs the Excel data providers through TestNG against src/test/resources/testdata/search-data.xlsx
+ * (20 searches, 15 of them enabled); no browser needed.
+ */
+@Listeners(ExcelDataListener.class)
+public class ExcelDataProviderTest {
+    private static final int MAX_ROWS_IN_FLIGHT = 2;
+
+    private final Set<String> enabledQueries = ConcurrentHashMap.newKeySet();
+    private final Set<String> allQueries = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger running = new AtomicInteger();
+    private final AtomicInteger maxRunning = new AtomicInteger();
+
+    @BeforeClass
+    public void limitReadAhead() {
+        System.setProperty("excel.dataprovider.max.rows.in.flight", String.valueOf(MAX_ROWS_IN_FLIGHT));
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void resetReadAhead() {
+        System.clearProperty("excel.dataprovider.max.rows.in.flight");
+    }
+
+    @Test(dataProvider = ExcelDataProvider.SEQUENTIAL, dataProviderClass = ExcelDataProvider.class)
+    @ExcelData(file = "testdata/search-data.xlsx", sheet = "Searches", filterColumn = "Enabled", filterValue = "true")
+    public void filteredRowsAsMap(Map<String, String> row) {
+        Assert.assertEquals(row.get("Enabled"), "true");
+        enabledQueries.add(row.get("Query"));
+    }
+
+    @Test(dataProvider = ExcelDataProvider.PARALLEL, dataProviderClass = ExcelDataProvider.class)
+    @ExcelData(file = "testdata/search-data.xlsx", sheet = "Searches", columns = {"Query", "Category"})
+    public void parallelRowsAsColumns(String query, String category) throws InterruptedException {
+        int now = running.incrementAndGet();
+        maxRunning.accumulateAndGet(now, Math::max);
+        try {
+            Assert.assertFalse(category.isEmpty(), "Category of " + query);
+            allQueries.add(query);
+            Thread.sleep(20);
+        } finally {
+            running.decrementAndGet();
+        }
+    }
+
+    @Test(dependsOnMethods = {"filteredRowsAsMap", "parallelRowsAsColumns"})
+    public void everyRowWasProvidedOnce() {
+        Assert.assertEquals(enabledQueries.size(), 15);
+        Assert.assertFalse(enabledQueries.contains("iphone 15"));
+        Assert.assertEquals(allQueries.size(), 20);
+        Assert.assertTrue(maxRunning.get() <= MAX_ROWS_IN_FLIGHT,
+                "At most " + MAX_ROWS_IN_FLIGHT + " rows should be in flight, saw " + maxRunning.get());
+    }
+}
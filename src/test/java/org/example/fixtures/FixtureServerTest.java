@@ -0,0 +1,62 @@
+package org.example.fixtures;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+/**
+ * FixtureServer over plain HTTP (no browser needed)
+ */
+public class FixtureServerTest {
+    private final HttpClient client = HttpClient.newHttpClient();
+    private FixtureServer server;
+
+    @AfterMethod(alwaysRun = true)
+    public void stopServer() {
+        if (server != null) {
+            server.stop();
+        }
+        System.clearProperty("fixture.server.latency.ms");
+        System.clearProperty("fixture.server.failure.rate");
+        System.clearProperty("fixture.server.failure.paths");
+    }
+
+    @Test
+    public void servesSnapshotsWithLatency() throws Exception {
+        System.setProperty("fixture.server.latency.ms", "200");
+        server = FixtureServer.fromConfig().start();
+
+        long start = System.nanoTime();
+        HttpResponse<String> page = get("amazon/search.html?k=motorola");
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        Assert.assertEquals(page.statusCode(), 200);
+        Assert.assertTrue(page.headers().firstValue("Content-Type").orElse("").startsWith("text/html"));
+        Assert.assertTrue(page.body().contains("s-search-result"));
+        Assert.assertTrue(elapsedMillis >= 200, "Response came after " + elapsedMillis + " ms");
+        Assert.assertEquals(get("amazon/missing.html").statusCode(), 404);
+        Assert.assertEquals(get("amazon/../config.properties").statusCode(), 404);
+    }
+
+    @Test
+    public void injectsFailuresOnMatchingPaths() throws Exception {
+        System.setProperty("fixture.server.failure.rate", "1.0");
+        System.setProperty("fixture.server.failure.paths", "/amazon/product*");
+        server = FixtureServer.fromConfig().start();
+
+        Assert.assertEquals(get("amazon/product.html").statusCode(), 503);
+        Assert.assertEquals(get("amazon/index.html").statusCode(), 200);
+        Assert.assertEquals(server.getFailuresInjected(), 1);
+    }
+
+    private HttpResponse<String> get(String fixturePath) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(server.url(fixturePath))).build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+}
@@ -0,0 +1,63 @@
+package org.example.metrics;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Percentiles of LatencyHistogram and the JSON/Prometheus export of StepMetrics
+ */
+public class StepMetricsTest {
+
+    @AfterMethod(alwaysRun = true)
+    public void clearMetrics() {
+        StepMetrics.reset();
+    }
+
+    @Test
+    public void percentilesStayWithinBucketPrecision() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int millis = 1; millis <= 1000; millis++) {
+            histogram.record(TimeUnit.MILLISECONDS.toNanos(millis));
+        }
+
+        Assert.assertEquals(histogram.getCount(), 1000);
+        Assert.assertEquals(histogram.getMaxMicros(), 1_000_000);
+        assertWithinPrecision(histogram.getPercentileMicros(50), 500_000);
+        assertWithinPrecision(histogram.getPercentileMicros(95), 950_000);
+        assertWithinPrecision(histogram.getPercentileMicros(99), 990_000);
+        Assert.assertEquals(histogram.getPercentileMicros(100), 1_000_000);
+        Assert.assertEquals(new LatencyHistogram().getPercentileMicros(99), 0);
+    }
+
+    @Test
+    public void exportsStepsByTotalTime() {
+        StepMetrics.record("AmazonHomePage.search", TimeUnit.MILLISECONDS.toNanos(40));
+        StepMetrics.record("AmazonHomePage.search", TimeUnit.MILLISECONDS.toNanos(60));
+        StepMetrics.record("allure: Verify \"title\"", TimeUnit.MILLISECONDS.toNanos(5));
+
+        List<StepStats> stats = StepMetrics.snapshot();
+        Assert.assertEquals(stats.get(0).getStep(), "AmazonHomePage.search");
+        Assert.assertEquals(stats.get(0).getCount(), 2);
+        Assert.assertEquals(stats.get(0).getTotalMicros(), 100_000);
+
+        String json = StepMetrics.toJson(stats);
+        Assert.assertTrue(json.contains("{\"step\": \"AmazonHomePage.search\", \"count\": 2, \"total\": 100.000"), json);
+        Assert.assertTrue(json.contains("\"allure: Verify \\\"title\\\"\""), json);
+
+        String prometheus = StepMetrics.toPrometheus(stats);
+        Assert.assertTrue(prometheus.contains("# TYPE test_step_duration_seconds summary"), prometheus);
+        Assert.assertTrue(prometheus.contains(
+                "test_step_duration_seconds_count{step=\"AmazonHomePage.search\"} 2\n"), prometheus);
+        Assert.assertTrue(prometheus.contains(
+                "test_step_duration_max_seconds{step=\"AmazonHomePage.search\"} 0.060000\n"), prometheus);
+    }
+
+    private static void assertWithinPrecision(long actualMicros, long expectedMicros) {
+        Assert.assertTrue(actualMicros >= expectedMicros && actualMicros <= expectedMicros * 1.04,
+                "Expected about " + expectedMicros + " us but got " + actualMicros);
+    }
+}
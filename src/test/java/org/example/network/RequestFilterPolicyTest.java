@@ -0,0 +1,60 @@
+package org.example.network;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.Test;
+
+/**
+ * Rule evaluation of RequestFilterPolicy with the defaults from config.properties (no browser needed)
+ */
+public class RequestFilterPolicyTest {
+
+    @AfterClass(alwaysRun = true)
+    public void clearOverrides() {
+        System.clearProperty("network.ImageHeavyPage.block.resource.types");
+        System.clearProperty("network.ImageHeavyPage.allow.url.patterns");
+        System.clearProperty("network.ReloadedPage.block.resource.types");
+    }
+
+    @Test
+    public void defaultPolicyBlocksHeavyResourcesAndTrackers() {
+        RequestFilterPolicy policy = RequestFilterPolicy.defaultPolicy();
+
+        Assert.assertTrue(policy.shouldBlock("image", "https://m.media-amazon.com/images/I/71.jpg"));
+        Assert.assertTrue(policy.shouldBlock("font", "https://fonts.gstatic.com/s/roboto.woff2"));
+        Assert.assertTrue(policy.shouldBlock("script", "https://www.googletagmanager.com/gtm.js?id=GTM-1"));
+        Assert.assertTrue(policy.shouldBlock("xhr", "https://fls-eu.amazon.in/1/batch/1/OE/"));
+
+        Assert.assertFalse(policy.shouldBlock("document", "https://www.amazon.in/s?k=motorola"));
+        Assert.assertFalse(policy.shouldBlock("script", "https://m.media-amazon.com/images/I/61ui.js"));
+        Assert.assertFalse(policy.shouldBlock("stylesheet", "https://www.google.com/css/main.css"));
+    }
+
+    @Test
+    public void pageObjectOverridesReplaceDefaultLists() {
+        System.setProperty("network.ImageHeavyPage.block.resource.types", "media, font");
+        System.setProperty("network.ImageHeavyPage.allow.url.patterns", "*doubleclick.net/ok/*");
+        RequestFilterPolicy policy = RequestFilterPolicy.forPageObject("ImageHeavyPage");
+
+        Assert.assertEquals(policy.getName(), "ImageHeavyPage");
+        Assert.assertFalse(policy.shouldBlock("image", "https://example.com/photo.png"));
+        Assert.assertTrue(policy.shouldBlock("media", "https://example.com/video.mp4"));
+        // Block patterns are inherited, allow patterns take precedence
+        Assert.assertTrue(policy.shouldBlock("script", "https://ad.doubleclick.net/tag.js"));
+        Assert.assertFalse(policy.shouldBlock("script", "https://ad.doubleclick.net/ok/tag.js"));
+    }
+
+    @Test
+    public void laterOverridesReachCachedPolicies() {
+        System.setProperty("network.ReloadedPage.block.resource.types", "image");
+        RequestFilterPolicy before = RequestFilterPolicy.forPageObject("ReloadedPage");
+        Assert.assertSame(RequestFilterPolicy.forPageObject("ReloadedPage"), before);
+
+        System.setProperty("network.ReloadedPage.block.resource.types", "media");
+        RequestFilterPolicy after = RequestFilterPolicy.forPageObject("ReloadedPage");
+
+        Assert.assertTrue(before.shouldBlock("image", "https://example.com/photo.png"));
+        Assert.assertFalse(after.shouldBlock("image", "https://example.com/photo.png"));
+        Assert.assertTrue(after.shouldBlock("media", "https://example.com/video.mp4"));
+    }
+}
@@ -0,0 +1,135 @@
+package org.example.pages.support;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Step retry with restore, the per-step limit, the per-test budget and steps that must not be retried
+ * (no browser needed)
+ * Runs single-threaded: the tests set and clear JVM-wide system properties, which would race
+ * under parallel.mode=methods.
+ */
+@Test(singleThreaded = true)
+public class StepRetryTest {
+
+    @BeforeMethod
+    public void resetBudget() {
+        System.setProperty("retry.step.max", "1");
+        System.setProperty("retry.test.budget", "2");
+        StepRetry.startTest();
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void clearOverrides() {
+        System.clearProperty("retry.step.max");
+        System.clearProperty("retry.test.budget");
+    }
+
+    @Test
+    public void failedStepIsRetriedAfterRestore() {
+        AtomicInteger attempts = new AtomicInteger();
+        AtomicInteger restores = new AtomicInteger();
+
+        String result = StepRetry.run("Page.flaky", () -> {
+            if (attempts.incrementAndGet() == 1) {
+                throw new RuntimeException("Popup covered the button");
+            }
+            return "done";
+        }, restores::incrementAndGet);
+
+        Assert.assertEquals(result, "done");
+        Assert.assertEquals(attempts.get(), 2);
+        Assert.assertEquals(restores.get(), 1);
+        Assert.assertEquals(StepRetry.getRetriesOfTest(), 1);
+    }
+
+    @Test
+    public void nestedStepsAreRetriedWithTheOutermostStep() {
+        AtomicInteger outer = new AtomicInteger();
+        AtomicInteger restores = new AtomicInteger();
+
+        StepRetry.run("Page.outer", () -> {
+            outer.incrementAndGet();
+            return StepRetry.run("Page.inner", () -> {
+                if (outer.get() == 1) {
+                    throw new RuntimeException("Selector missed");
+                }
+                return null;
+            }, () -> Assert.fail("Inner step must not restore"));
+        }, restores::incrementAndGet);
+
+        Assert.assertEquals(outer.get(), 2);
+        Assert.assertEquals(restores.get(), 1);
+    }
+
+    @Test
+    public void stepLimitAndTestBudgetStopRetries() {
+        AtomicInteger attempts = new AtomicInteger();
+        Runnable noRestore = () -> { };
+
+        // Each step gets one retry, then fails with the original exception
+        RuntimeException failure = Assert.expectThrows(RuntimeException.class, () ->
+                StepRetry.run("Page.broken", () -> {
+                    throw new RuntimeException("attempt " + attempts.incrementAndGet());
+                }, noRestore));
+        Assert.assertEquals(failure.getMessage(), "attempt 2");
+
+        // The second retry uses up the budget of 2, the third step is not retried at all
+        Assert.expectThrows(RuntimeException.class, () ->
+                StepRetry.run("Page.broken", () -> {
+                    throw new RuntimeException("attempt " + attempts.incrementAndGet());
+                }, noRestore));
+        Assert.expectThrows(RuntimeException.class, () ->
+                StepRetry.run("Page.broken", () -> {
+                    throw new RuntimeException("attempt " + attempts.incrementAndGet());
+                }, noRestore));
+        Assert.assertEquals(attempts.get(), 5);
+        Assert.assertEquals(StepRetry.getRetriesOfTest(), 2);
+    }
+
+    @Test
+    public void nonIdempotentStepIsNotRetried() {
+        AtomicInteger adds = new AtomicInteger();
+        AtomicInteger restores = new AtomicInteger();
+
+        RuntimeException failure = Assert.expectThrows(RuntimeException.class, () ->
+                StepRetry.once("Page.addToCart", () -> {
+                    adds.incrementAndGet();
+                    // A retryable step inside it must not restore the page either
+                    return StepRetry.run("Page.handlePopups", () -> {
+                        throw new RuntimeException("Cart confirmation missing");
+                    }, restores::incrementAndGet);
+                }));
+
+        Assert.assertEquals(failure.getMessage(), "Cart confirmation missing");
+        Assert.assertEquals(adds.get(), 1);
+        Assert.assertEquals(restores.get(), 0);
+        Assert.assertEquals(StepRetry.getRetriesOfTest(), 0);
+
+        // Retryable steps after it are retried again
+        AtomicInteger attempts = new AtomicInteger();
+        StepRetry.run("Page.navigate", () -> {
+            if (attempts.incrementAndGet() == 1) {
+                throw new RuntimeException("Navigation timeout");
+            }
+            return null;
+        }, restores::incrementAndGet);
+        Assert.assertEquals(attempts.get(), 2);
+    }
+
+    @Test
+    public void failedRestoreRethrowsOriginalFailure() {
+        RuntimeException failure = Assert.expectThrows(RuntimeException.class, () ->
+                StepRetry.run("Page.gone", () -> {
+                    throw new RuntimeException("Target closed");
+                }, () -> {
+                    throw new IllegalStateException("Page is closed");
+                }));
+        Assert.assertEquals(failure.getMessage(), "Target closed");
+        Assert.assertEquals(failure.getSuppressed().length, 1);
+    }
+}
@@ -0,0 +1,85 @@
+package org.example.scheduling;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Longest-processing-time shard planning and the duration history it reads (no browser needed)
+ */
+public class ShardPlannerTest {
+
+    @Test
+    public void longestTestsAreSpreadFirstAndShardsStayBalanced() {
+        Map<String, Long> durations = Map.of("a", 70L, "b", 60L, "c", 50L, "d", 40L, "e", 30L, "f", 20L, "g", 10L);
+        ShardPlanner.Plan plan = ShardPlanner.plan(durations.keySet(), durations::get, 3);
+
+        Assert.assertEquals(plan.shardOf("a"), 0);
+        Assert.assertEquals(plan.shardOf("b"), 1);
+        Assert.assertEquals(plan.shardOf("c"), 2);
+        Assert.assertEquals(plan.getLoadMillis(0) + plan.getLoadMillis(1) + plan.getLoadMillis(2), 280);
+        // The optimum is 94 ms (280 / 3 rounded up); LPT stays within 4/3 of it
+        Assert.assertTrue(plan.getMakespanMillis() <= 100, "Makespan " + plan.getMakespanMillis());
+        Assert.assertEquals(plan.shardOf("unknown"), -1);
+    }
+
+    @Test
+    public void planIsDeterministicAndUsesDefaultEstimates() {
+        List<String> keys = Arrays.asList("T.slow", "T.new1", "T.new2", "T.new3", "T.slow");
+        ShardPlanner.Plan first = ShardPlanner.plan(keys, key -> key.equals("T.slow") ? 90 : 30, 2);
+        ShardPlanner.Plan second = ShardPlanner.plan(List.of("T.new3", "T.new2", "T.slow", "T.new1"),
+                key -> key.equals("T.slow") ? 90 : 30, 2);
+
+        Assert.assertEquals(first.getTests(0), List.of("T.slow"));
+        Assert.assertEquals(first.getTests(1), List.of("T.new1", "T.new2", "T.new3"));
+        Assert.assertEquals(second.getTests(1), first.getTests(1));
+    }
+
+    @Test
+    public void dependentTestsStayOnTheShardOfTheirDependencies() {
+        // Without history all tests have the same estimate and would be dealt out round-robin
+        List<String> keys = List.of("D.everyRowWasProvidedOnce", "D.filteredRowsAsMap", "D.parallelRowsAsColumns",
+                "E.a", "E.b", "E.c");
+        Map<String, List<String>> dependencies = Map.of(
+                "D.everyRowWasProvidedOnce", List.of("D.filteredRowsAsMap", "D.parallelRowsAsColumns"),
+                "E.c", List.of("Missing.test"));
+        ShardPlanner.Plan plan = ShardPlanner.plan(keys, key -> 30, dependencies, 3);
+
+        int shard = plan.shardOf("D.everyRowWasProvidedOnce");
+        Assert.assertEquals(plan.shardOf("D.filteredRowsAsMap"), shard);
+        Assert.assertEquals(plan.shardOf("D.parallelRowsAsColumns"), shard);
+        // The dependent unit is planned as one 90 ms test, the other tests fill the remaining shards
+        Assert.assertEquals(plan.getLoadMillis(shard), 90);
+        Assert.assertEquals(plan.getMakespanMillis(), 90);
+        Assert.assertNotEquals(plan.shardOf("E.c"), -1);
+    }
+
+    @Test
+    public void historySmoothsMeasurementsAndNewestEntryWins() throws IOException {
+        Path dir = Files.createTempDirectory("test-history");
+        Files.writeString(dir.resolve("durations-shard-0.properties"), "T.a=1000,100\nT.b=500,100\n");
+        Files.writeString(dir.resolve("durations-shard-1.properties"), "T.a=3000,200\nT.c=broken\n");
+
+        TestHistory history = new TestHistory(dir, "durations.properties");
+        Assert.assertEquals(history.getDurationMillis("T.a", 0), 3000);
+        Assert.assertEquals(history.getDurationMillis("T.c", 42), 42);
+
+        history.record("T.a", 400, false);
+        history.record("T.a", 600, true);
+        history.record("T.d", 250, false);
+        history.save();
+
+        TestHistory reloaded = new TestHistory(dir, "durations.properties");
+        Assert.assertEquals(reloaded.getDurationMillis("T.a", 0), 2000);
+        Assert.assertEquals(reloaded.getDurationMillis("T.b", 0), 500);
+        Assert.assertEquals(reloaded.getDurationMillis("T.d", 0), 250);
+        Assert.assertTrue(reloaded.hasFailedLastRun("T.a"));
+        Assert.assertFalse(reloaded.hasFailedLastRun("T.b"));
+    }
+}
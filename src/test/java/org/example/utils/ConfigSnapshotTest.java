@@ -0,0 +1,84 @@
+package org.example.utils;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+/**
+ * Layering of ConfigSnapshot: defaults, profile file, environment
+ * Runs single-threaded: the tests set and clear JVM-wide system properties, which would race
+ * under parallel.mode=methods.
+ */
+@Test(singleThreaded = true)
+public class ConfigSnapshotTest {
+
+    @AfterMethod(alwaysRun = true)
+    public void clearOverrides() {
+        System.clearProperty("config.profile");
+        System.clearProperty("config.file");
+    }
+
+    @Test
+    public void laterLayersOverrideEarlierOnes() throws Exception {
+        Path profileFile = Files.createTempFile("config-test", ".properties");
+        Files.writeString(profileFile, "timeout.short=1234\nwait.poll.max=700\nprofile.only=yes\n");
+        System.setProperty("config.file", profileFile.toString());
+        try {
+            ConfigSnapshot snapshot = ConfigSnapshot.load(Map.of("WAIT_POLL_MAX", "900"));
+
+            // Default from config.properties
+            Assert.assertEquals(snapshot.get("google.expected.title"), "Google");
+            // Profile file over defaults
+            Assert.assertEquals(snapshot.shortTimeout, 1234);
+            Assert.assertEquals(snapshot.get("profile.only"), "yes");
+            // Environment over profile file
+            Assert.assertEquals(snapshot.maxPollInterval, 900);
+            Assert.assertEquals(snapshot.getInt("wait.poll.max"), Integer.valueOf(900));
+            Assert.assertTrue(snapshot.getSourceFiles().contains(profileFile));
+        } finally {
+            Files.deleteIfExists(profileFile);
+        }
+    }
+
+    @Test
+    public void profileIsReadFromClasspath() {
+        System.setProperty("config.profile", "ci");
+        ConfigSnapshot snapshot = ConfigSnapshot.load(Map.of());
+
+        Assert.assertEquals(snapshot.get("browser.headless"), "true");
+        Assert.assertEquals(snapshot.get("google.url"), "https://www.google.com");
+        Assert.assertNull(snapshot.getInt("google.url"));
+    }
+
+    @Test(expectedExceptions = RuntimeException.class)
+    public void missingProfileFails() {
+        System.setProperty("config.profile", "does-not-exist");
+        ConfigSnapshot.load(Map.of());
+    }
+
+    @Test
+    public void environmentOnlyOverridesKnownKeys() {
+        ConfigSnapshot snapshot = ConfigSnapshot.load(Map.of("TIMEOUT_SHORT", "4321", "NOT_A_CONFIG_KEY", "x"));
+
+        Assert.assertEquals(snapshot.shortTimeout, 4321);
+        Assert.assertNull(snapshot.get("not.a.config.key"));
+    }
+
+    @Test
+    public void systemPropertiesWinAtReadTime() {
+        ConfigReaderUtils config = ConfigReaderUtils.getInstance();
+        int configured = config.getShortTimeout();
+        System.setProperty("timeout.short", String.valueOf(configured + 1));
+        try {
+            Assert.assertEquals(config.getShortTimeout(), configured + 1);
+            Assert.assertEquals(config.getIntProperty("timeout.short"), configured + 1);
+        } finally {
+            System.clearProperty("timeout.short");
+        }
+        Assert.assertEquals(config.getShortTimeout(), configured);
+    }
+}
@@ -0,0 +1,326 @@
+package org.example.utils;
+
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Unit tests for ExcelReaderUtils against a generated workbook (no browser needed)
+ * Runs single-threaded: the tests set and clear JVM-wide system properties, which would race
+ * under parallel.mode=methods.
+ */
+@Test(singleThreaded = true)
+public class ExcelReaderUtilsTest {
+
+    private static final int DATA_ROWS = 250;
+
+    private File workbookFile;
+    private Path cacheDir;
+
+    @BeforeClass
+    public void createWorkbook() throws IOException {
+        workbookFile = Files.createTempFile("test-data", ".xlsx").toFile();
+        writeWorkbook(workbookFile, "user");
+        cacheDir = Files.createTempDirectory("excel-cache");
+    }
+
+    @BeforeMethod
+    public void useWorkbookOnly() {
+        System.setProperty("excel.cache.enabled", "false");
+        System.setProperty("excel.cache.dir", cacheDir.toString());
+    }
+
+    private static void writeWorkbook(File target, String userPrefix) throws IOException {
+        try (XSSFWorkbook workbook = new XSSFWorkbook();
+             FileOutputStream outputStream = new FileOutputStream(target)) {
+            CellStyle dateStyle = workbook.createCellStyle();
+            dateStyle.setDataFormat(workbook.getCreationHelper().createDataFormat().getFormat("yyyy-mm-dd"));
+
+            Sheet sheet = workbook.createSheet("Users");
+            Row header = sheet.createRow(0);
+            String[] columns = {"Username", "Age", "Score", "Active", "Joined", "Total"};
+            for (int i = 0; i < columns.length; i++) {
+                header.createCell(i).setCellValue(columns[i]);
+            }
+            for (int i = 1; i <= DATA_ROWS; i++) {
+                Row row = sheet.createRow(i);
+                row.createCell(0).setCellValue(userPrefix + i);
+                row.createCell(1).setCellValue(20 + i % 40);
+                row.createCell(2).setCellValue(i + 0.5);
+                row.createCell(3).setCellValue(i % 2 == 0);
+                Cell joined = row.createCell(4);
+                joined.setCellValue(new Date(1_700_000_000_000L + i * 86_400_000L));
+                joined.setCellStyle(dateStyle);
+                row.createCell(5).setCellFormula("B" + (i + 1) + "+C" + (i + 1));
+            }
+            workbook.createSheet("Empty");
+            // Store formula results so the streaming reader sees the same values as the evaluator
+            workbook.getCreationHelper().createFormulaEvaluator().evaluateAll();
+            workbook.write(outputStream);
+        }
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void resetReadMode() {
+        System.clearProperty("excel.read.mode");
+        System.clearProperty("excel.cache.enabled");
+        System.clearProperty("excel.cache.dir");
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void deleteWorkbook() throws IOException {
+        workbookFile.delete();
+        try (Stream<Path> entries = Files.list(cacheDir)) {
+            for (Path entry : entries.collect(Collectors.toList())) {
+                Files.delete(entry);
+            }
+        }
+        Files.delete(cacheDir);
+    }
+
+    @Test
+    public void streamingRowsMatchDomRows() {
+        List<Map<String, String>> domRows = readAllRows("dom");
+        List<Map<String, String>> streamedRows = readAllRows("streaming");
+
+        Assert.assertEquals(domRows.size(), DATA_ROWS);
+        Assert.assertEquals(streamedRows, domRows);
+        Assert.assertEquals(domRows.get(0).get("Username"), "user1");
+        Assert.assertEquals(domRows.get(0).get("Age"), "21");
+        Assert.assertEquals(domRows.get(0).get("Score"), "1.5");
+        Assert.assertEquals(domRows.get(0).get("Active"), "false");
+        Assert.assertEquals(domRows.get(0).get("Total"), "22.5");
+    }
+
+    @Test
+    public void columnLookupIgnoresCaseAndRowsAreReadOnly() {
+        System.setProperty("excel.read.mode", "dom");
+        ExcelReaderUtils excelReader = new ExcelReaderUtils(workbookFile.getPath());
+        try {
+            excelReader.setSheet("Users");
+            Assert.assertEquals(excelReader.getColumnIndex("joined"), 4);
+            Assert.assertEquals(excelReader.getCellData(4, "USERNAME"), "user5");
+            Map<String, String> row = excelReader.getRowDataAsMap(0);
+            Assert.assertEquals(row.keySet(), Set.of("Username", "Age", "Score", "Active", "Joined", "Total"));
+            Assert.assertThrows(UnsupportedOperationException.class, () -> row.put("Username", "changed"));
+        } finally {
+            excelReader.close();
+        }
+    }
+
+    @Test
+    public void cachedSheetMatchesWorkbook() {
+        List<Map<String, String>> workbookRows = readAllRows("dom");
+
+        System.setProperty("excel.cache.enabled", "true");
+        Assert.assertEquals(readAllRows("dom"), workbookRows, "rows read while writing the cache");
+        Assert.assertEquals(readAllRows("dom"), workbookRows, "rows read from the cache");
+        Assert.assertEquals(readAllRows("streaming"), workbookRows, "streamed rows read from the cache");
+
+        ExcelReaderUtils excelReader = new ExcelReaderUtils(workbookFile.getPath());
+        try {
+            excelReader.setSheet("users");
+            Assert.assertEquals(excelReader.getRowCount(), DATA_ROWS + 1);
+            Assert.assertEquals(excelReader.getColumnCount(0), 6);
+            Assert.assertEquals(excelReader.getCellData(3, 0), "user3");
+            Assert.assertEquals(excelReader.getCellData(DATA_ROWS + 5, 0), "");
+            excelReader.setSheet("Empty");
+            Assert.assertEquals(excelReader.getRowCount(), 0);
+        } finally {
+            excelReader.close();
+        }
+    }
+
+    @Test
+    public void cacheIsInvalidatedWhenWorkbookChanges() throws IOException {
+        System.setProperty("excel.cache.enabled", "true");
+        File changingFile = Files.createTempFile("changing-data", ".xlsx").toFile();
+        try {
+            writeWorkbook(changingFile, "user");
+            Assert.assertEquals(firstUsername(changingFile), "user1");
+
+            writeWorkbook(changingFile, "admin");
+            Assert.assertEquals(firstUsername(changingFile), "admin1");
+            try (Stream<Path> entries = Files.list(cacheDir)) {
+                long sheetEntries = entries
+                        .filter(entry -> entry.getFileName().toString().startsWith(changingFile.getName()))
+                        .filter(entry -> entry.toString().endsWith(".bin"))
+                        .count();
+                Assert.assertEquals(sheetEntries, 1, "entries of the previous workbook content are removed");
+            }
+        } finally {
+            changingFile.delete();
+        }
+    }
+
+    @Test
+    public void sameNamedWorkbooksKeepTheirOwnCacheEntries() throws IOException {
+        System.setProperty("excel.cache.enabled", "true");
+        Path firstDir = Files.createTempDirectory("suite-a");
+        Path secondDir = Files.createTempDirectory("suite-b");
+        File first = firstDir.resolve("shared-data.xlsx").toFile();
+        File second = secondDir.resolve("shared-data.xlsx").toFile();
+        try {
+            writeWorkbook(first, "user");
+            writeWorkbook(second, "admin");
+
+            // Alternating reads must not delete each other's entries
+            for (int round = 0; round < 2; round++) {
+                Assert.assertEquals(firstUsername(first), "user1");
+                Assert.assertEquals(firstUsername(second), "admin1");
+            }
+            try (Stream<Path> entries = Files.list(cacheDir)) {
+                long sheetEntries = entries
+                        .filter(entry -> entry.getFileName().toString().startsWith("shared-data.xlsx"))
+                        .filter(entry -> entry.toString().endsWith(".bin"))
+                        .count();
+                Assert.assertEquals(sheetEntries, 2, "one entry per workbook path");
+            }
+        } finally {
+            first.delete();
+            second.delete();
+            Files.delete(firstDir);
+            Files.delete(secondDir);
+        }
+    }
+
+    @Test
+    public void autoModeUsesDomForSmallFiles() {
+        ExcelReaderUtils excelReader = new ExcelReaderUtils(workbookFile.getPath());
+        try {
+            Assert.assertFalse(excelReader.isStreaming());
+        } finally {
+            excelReader.close();
+        }
+    }
+
+    @Test
+    public void randomAccessWorksInStreamingMode() {
+        System.setProperty("excel.read.mode", "streaming");
+        ExcelReaderUtils excelReader = new ExcelReaderUtils(workbookFile.getPath());
+        try {
+            Assert.assertTrue(excelReader.isStreaming());
+            Assert.assertEquals(excelReader.getAllSheetNames(), List.of("Users", "Empty"));
+            excelReader.setSheet(0);
+            Assert.assertEquals(excelReader.getCellData(9, "Username"), "user10");
+            Assert.assertEquals(excelReader.getRowCount(), DATA_ROWS + 1);
+        } finally {
+            excelReader.close();
+        }
+    }
+
+    @Test
+    public void closingStreamStopsParsingEarly() {
+        System.setProperty("excel.read.mode", "streaming");
+        ExcelReaderUtils excelReader = new ExcelReaderUtils(workbookFile.getPath());
+        try {
+            excelReader.setSheet("Users");
+            try (Stream<Map<String, String>> rows = excelReader.streamRows()) {
+                List<String> firstUsers = rows.limit(3).map(row -> row.get("Username")).collect(Collectors.toList());
+                Assert.assertEquals(firstUsers, List.of("user1", "user2", "user3"));
+            }
+        } finally {
+            excelReader.close();
+        }
+    }
+
+    @Test
+    public void abandonedIteratorStopsParserThread() throws InterruptedException {
+        System.setProperty("excel.read.mode", "streaming");
+        System.setProperty("excel.streaming.buffer.rows", "2");
+        ExcelReaderUtils excelReader = new ExcelReaderUtils(workbookFile.getPath());
+        Thread parser;
+        try {
+            excelReader.setSheet("Users");
+            ExcelReaderUtils.RowIterator rows = excelReader.rowIterator();
+            Assert.assertEquals(rows.next().get("Username"), "user1");
+            parser = parserThread();
+            Assert.assertNotNull(parser, "parser thread is waiting for the consumer");
+            // The iterator is abandoned here without being closed
+        } finally {
+            excelReader.close();
+            System.clearProperty("excel.streaming.buffer.rows");
+        }
+        parser.join(5_000);
+        Assert.assertFalse(parser.isAlive(), "parser thread exits once the reader is closed");
+
+        excelReader = new ExcelReaderUtils(workbookFile.getPath());
+        try {
+            excelReader.setSheet("Users");
+            try (ExcelReaderUtils.RowIterator rows = excelReader.rowIterator()) {
+                Assert.assertEquals(rows.next().get("Username"), "user1");
+                parser = parserThread();
+            }
+            parser.join(5_000);
+            Assert.assertFalse(parser.isAlive(), "parser thread exits once the iterator is closed");
+        } finally {
+            excelReader.close();
+        }
+    }
+
+    @Test(expectedExceptions = RuntimeException.class, expectedExceptionsMessageRegExp = "Sheet 'Missing' not found.*")
+    public void streamingModeRejectsUnknownSheet() {
+        System.setProperty("excel.read.mode", "streaming");
+        ExcelReaderUtils excelReader = new ExcelReaderUtils(workbookFile.getPath());
+        try {
+            excelReader.setSheet("Missing");
+        } finally {
+            excelReader.close();
+        }
+    }
+
+    private Thread parserThread() {
+        String name = "excel-stream-" + workbookFile.getName();
+        return Thread.getAllStackTraces().keySet().stream()
+                .filter(thread -> thread.getName().equals(name) && thread.isAlive())
+                .findFirst()
+                .orElse(null);
+    }
+
+    private static String firstUsername(File file) {
+        ExcelReaderUtils excelReader = new ExcelReaderUtils(file.getPath());
+        try {
+            excelReader.setSheet("Users");
+            return excelReader.getCellData(0, "Username");
+        } finally {
+            excelReader.close();
+        }
+    }
+
+    private List<Map<String, String>> readAllRows(String readMode) {
+        System.setProperty("excel.read.mode", readMode);
+        ExcelReaderUtils excelReader = new ExcelReaderUtils(workbookFile.getPath());
+        try {
+            excelReader.setSheet("Users");
+            if (!excelReader.isStreaming()) {
+                return excelReader.getAllDataAsMap();
+            }
+            ExcelReaderUtils.RowIterator rows = excelReader.rowIterator();
+            List<Map<String, String>> allRows = new java.util.ArrayList<>();
+            rows.forEachRemaining(allRows::add);
+            return allRows;
+        } finally {
+            excelReader.close();
+        }
+    }
+}